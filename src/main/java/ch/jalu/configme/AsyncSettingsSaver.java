@@ -0,0 +1,191 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.exception.ConfigMeException;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Saves the configuration of a settings manager in the background. Saves which are requested while a save is
+ * pending (i.e. scheduled but not started yet) are coalesced with it, so that a burst of changes results in a
+ * single export. A save requested while another save is running is scheduled after it, so that every change
+ * made before calling {@link #save} is persisted once the returned future is complete.
+ * <p>
+ * Saves are run one after the other: the settings manager is never exported by two threads of this saver at the
+ * same time. {@link #close} waits for outstanding saves, so it should be called when the application shuts down.
+ */
+public class AsyncSettingsSaver implements AutoCloseable {
+
+    private final SettingsManager settingsManager;
+    private final Executor executor;
+    /** Executor created by this saver, shut down on close. */
+    @Nullable
+    private final ExecutorService ownExecutor;
+
+    private final Object lock = new Object();
+    /** Save which is scheduled but has not started yet; further requests are coalesced into it. */
+    @Nullable
+    private CompletableFuture<Void> pendingSave;
+    @Nullable
+    private CompletableFuture<Void> runningSave;
+    private boolean closed;
+    private long requestCount;
+    private long saveCount;
+
+    /**
+     * Constructor. Saves are performed on a background thread owned by this saver.
+     *
+     * @param settingsManager the settings manager to save
+     */
+    public AsyncSettingsSaver(SettingsManager settingsManager) {
+        this.settingsManager = settingsManager;
+        this.ownExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ConfigMe-save");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor = ownExecutor;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param settingsManager the settings manager to save
+     * @param executor the executor to perform the saves with (is not shut down by this saver)
+     */
+    public AsyncSettingsSaver(SettingsManager settingsManager, Executor executor) {
+        this.settingsManager = settingsManager;
+        this.executor = executor;
+        this.ownExecutor = null;
+    }
+
+    /**
+     * Requests the configuration to be saved. Returns immediately; the returned future is completed once
+     * a save which started after this call has finished, or completed exceptionally if that save failed.
+     *
+     * @return future completed when the configuration has been saved
+     */
+    public CompletableFuture<Void> save() {
+        synchronized (lock) {
+            if (closed) {
+                throw new ConfigMeException("The saver has been closed");
+            }
+            ++requestCount;
+            // Keep the future in a local variable: schedule() may clear the field (e.g. with a direct executor)
+            CompletableFuture<Void> save = pendingSave;
+            if (save == null) {
+                save = new CompletableFuture<>();
+                pendingSave = save;
+                if (runningSave == null) {
+                    // Otherwise, the pending save is scheduled when the running save has finished
+                    schedule(save);
+                }
+            }
+            return save;
+        }
+    }
+
+    /**
+     * Waits until all requested saves have been performed.
+     *
+     * @throws ConfigMeException if the last save failed
+     */
+    public void flush() {
+        CompletableFuture<Void> lastSave;
+        synchronized (lock) {
+            lastSave = (pendingSave != null) ? pendingSave : runningSave;
+        }
+        if (lastSave != null) {
+            try {
+                lastSave.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof ConfigMeException
+                    ? (ConfigMeException) e.getCause()
+                    : new ConfigMeException("Could not save the configuration", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Rejects further save requests, waits until all requested saves have been performed and shuts down
+     * the background thread if it was created by this saver.
+     *
+     * @throws ConfigMeException if the last save failed
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        try {
+            flush();
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * @return number of times a save was requested
+     */
+    public long getRequestCount() {
+        synchronized (lock) {
+            return requestCount;
+        }
+    }
+
+    /**
+     * @return number of times the configuration was actually saved (or attempted to be saved)
+     */
+    public long getSaveCount() {
+        synchronized (lock) {
+            return saveCount;
+        }
+    }
+
+    private void schedule(CompletableFuture<Void> future) {
+        try {
+            executor.execute(() -> performSave(future));
+        } catch (RejectedExecutionException e) {
+            pendingSave = null;
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void performSave(CompletableFuture<Void> future) {
+        synchronized (lock) {
+            pendingSave = null;
+            runningSave = future;
+            ++saveCount;
+        }
+
+        Throwable failure = null;
+        try {
+            settingsManager.save();
+        } catch (RuntimeException e) {
+            failure = e;
+        } catch (Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            // Always complete the future, so that flush() and close() do not wait forever
+            if (failure == null) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(failure);
+            }
+            synchronized (lock) {
+                runningSave = null;
+                if (pendingSave != null) {
+                    schedule(pendingSave);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ch.jalu.configme;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for {@link SettingsHolder} classes whose {@link ch.jalu.configme.configurationdata.ConfigurationData}
+ * should be generated at compile time.
+ * <p>
+ * When ConfigMe is on the annotation processor path, a class {@code <HolderName>_ConfigurationData} is generated
+ * in the same package as the annotated class. Its static {@code create()} method returns the same configuration data
+ * as {@link ch.jalu.configme.configurationdata.ConfigurationDataBuilder#collectData(Class[])} but without using
+ * reflection. Malformed {@link ch.jalu.configme.properties.Property} fields and {@link SectionComments} methods
+ * are reported as compilation errors.
+ *
+ * @see ch.jalu.configme.configurationdata.processor.ConfigurationDataProcessor
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+@Documented
+public @interface GenerateConfigurationData {
+
+}
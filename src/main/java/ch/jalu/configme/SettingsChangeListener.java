@@ -0,0 +1,22 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.properties.Property;
+
+import java.util.Set;
+
+/**
+ * Listener which is notified when properties of a {@link SettingsManager} are changed.
+ *
+ * @see SettingsManager#addChangeListener
+ */
+@FunctionalInterface
+public interface SettingsChangeListener {
+
+    /**
+     * Called after properties have been changed with {@link SettingsManager#setProperty} or
+     * a {@link SettingsTransaction}. Called once per change, even if multiple properties were changed.
+     *
+     * @param changedProperties the properties whose value has changed (unmodifiable)
+     */
+    void onChange(Set<Property<?>> changedProperties);
+}
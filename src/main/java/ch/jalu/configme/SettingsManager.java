@@ -2,10 +2,15 @@ package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.events.SettingsChangeEvent;
+import ch.jalu.configme.events.SettingsChangePublisher;
+import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.migration.PlainMigrationService;
+import ch.jalu.configme.properties.LowercaseStringSetProperty;
 import ch.jalu.configme.properties.OptionalProperty;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.PropertyValues;
 import ch.jalu.configme.resource.PropertyResource;
 import ch.jalu.configme.resource.YamlFileResource;
 import ch.jalu.configme.utils.Utils;
@@ -14,8 +19,22 @@ import javax.annotation.Nullable;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Settings manager.
@@ -39,6 +58,24 @@ public class SettingsManager {
     protected final ConfigurationData configurationData;
     protected final PropertyResource resource;
     protected final MigrationService migrationService;
+    /** Values of all known properties, resolved when the configuration is loaded. */
+    private volatile PropertyValues propertyValues;
+    private final List<SettingsChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private final SettingsChangePublisher changePublisher = new SettingsChangePublisher();
+    /**
+     * Lock for modifications of the property resource and for loading and saving it, so that these operations are
+     * not interleaved. Held during file I/O. Reads are not locked.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /** Guards the reload futures below; only held briefly, never during a reload. */
+    private final Object reloadLock = new Object();
+    /** Reload which has been requested but has not started yet; further requests join it. */
+    @Nullable
+    private CompletableFuture<Void> pendingReload;
+    @Nullable
+    private CompletableFuture<Void> runningReload;
+    @Nullable
+    private Thread reloadingThread;
 
     /**
      * Constructor.
@@ -103,14 +140,57 @@ public class SettingsManager {
     }
 
     /**
-     * Gets the given property from the configuration.
+     * Creates a settings manager on the given executor: the property resource is created, checked with the
+     * migration service and its values are resolved without blocking the calling thread.
+     *
+     * @param resourceSupplier supplier creating the property resource, e.g. {@code () -> new YamlFileResource(file)}
+     * @param migrationService migration service to check the property resource with, or null
+     * @param configurationData the configuration data
+     * @param executor the executor to load the configuration with
+     * @return future completed with the settings manager once it is loaded
+     */
+    public static CompletableFuture<SettingsManager> createAsync(Supplier<? extends PropertyResource> resourceSupplier,
+                                                                 @Nullable MigrationService migrationService,
+                                                                 ConfigurationData configurationData,
+                                                                 Executor executor) {
+        return CompletableFuture.supplyAsync(
+            () -> new SettingsManager(resourceSupplier.get(), migrationService, configurationData), executor);
+    }
+
+    /**
+     * Gets the given property from the configuration. The values of all known properties are resolved
+     * when the configuration is loaded; other properties are resolved from the property resource
+     * on the first call and are then kept until the property resource is modified or reloaded.
      *
      * @param property The property to retrieve
      * @param <T> The property's type
      * @return The property's value
      */
     public <T> T getProperty(Property<T> property) {
-        return property.getValue(resource);
+        // Values of other properties are kept by the snapshot, so they are discarded when a new one is published
+        return propertyValues.getOrResolve(property, resource);
+    }
+
+    /**
+     * Returns whether the set of the given property contains the value, ignoring case. The set is only built
+     * when the configuration is loaded, so this check does not create any objects if the value is lowercase.
+     *
+     * @param property the set property to check
+     * @param value the value to look for
+     * @return true if the property's set contains the value, false otherwise
+     */
+    public boolean containsIgnoreCase(LowercaseStringSetProperty property, String value) {
+        return getProperty(property).contains(value.toLowerCase());
+    }
+
+    /**
+     * Returns the values of all known properties as resolved on the last load or reload, including
+     * which properties were missing or invalid in the property resource.
+     *
+     * @return the resolved values of all known properties
+     */
+    public PropertyValues getPropertyValues() {
+        return propertyValues;
     }
 
     /**
@@ -121,37 +201,373 @@ public class SettingsManager {
      * @param <T> The property's type
      */
     public <T> void setProperty(Property<T> property, T value) {
-        if (property instanceof OptionalProperty<?>) {
-            resource.setValue(property.getPath(), ((Optional<?>) value).orElse(null));
-        } else {
-            resource.setValue(property.getPath(), value);
+        List<SettingsChangeEvent> events;
+        writeLock.lock();
+        try {
+            PropertyValues oldValues = propertyValues;
+            setValueInResource(resource, property, value);
+            // Other properties may be affected (e.g. properties at a parent path)
+            propertyValues = oldValues.withUpdatedPath(resource, property.getPath());
+            events = hasChangeListeners()
+                ? createChangeEvents(oldValues, propertyValues, Collections.singletonMap(property, value),
+                    SettingsChangeEvent.Source.SET)
+                : Collections.emptyList();
+        } finally {
+            writeLock.unlock();
         }
+        notifyChangeListeners(events);
+    }
+
+    /**
+     * Creates a new transaction with which multiple properties can be changed at once. The changes are only
+     * visible to readers once the transaction is committed; the configuration is then saved once.
+     *
+     * @return new transaction
+     */
+    public SettingsTransaction beginTransaction() {
+        return new SettingsTransaction(this);
+    }
+
+    /**
+     * Adds a listener which is notified whenever properties are changed with {@link #setProperty}
+     * or a {@link SettingsTransaction}.
+     *
+     * @param listener the listener to add
+     */
+    public void addChangeListener(SettingsChangeListener listener) {
+        changeListeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * Returns the publisher of change events, which allows to subscribe to changes made with {@link #setProperty},
+     * with a {@link SettingsTransaction}, by reloading and by migrations on reload. Events are delivered
+     * asynchronously, so slow subscribers do not block changes to the settings.
+     * <p>
+     * Changes are detected by comparing the values with {@code equals}; values which do not implement it
+     * (e.g. beans without equals) are reported as changed every time they are read again.
+     *
+     * @return the change event publisher
+     */
+    public SettingsChangePublisher getChangePublisher() {
+        return changePublisher;
+    }
+
+    /**
+     * Removes the given change listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeChangeListener(SettingsChangeListener listener) {
+        changeListeners.remove(listener);
     }
 
     /**
      * Reloads the configuration.
+     * <p>
+     * Concurrent calls are coalesced: a call joins a reload which has been requested by another thread but has not
+     * started yet, and a call made while a reload is running waits for it to finish and then performs one more
+     * reload, which all calls made in the meantime join. Thus, every change to the resource made before this method
+     * was called is loaded once it returns, and at most one reload is waiting behind the running one. A failure of
+     * the reload is thrown to all callers which joined it.
      */
     public void reload() {
-        resource.reload();
-        validateAndLoadOptions();
+        CompletableFuture<Void> reload;
+        CompletableFuture<Void> previousReload = null;
+        boolean performsReload;
+        synchronized (reloadLock) {
+            if (reloadingThread == Thread.currentThread()) {
+                // Reload triggered by the running reload (e.g. by an event subscriber): perform it right away
+                reload = null;
+                performsReload = true;
+            } else if (pendingReload != null) {
+                reload = pendingReload;
+                performsReload = false;
+            } else {
+                reload = new CompletableFuture<>();
+                pendingReload = reload;
+                previousReload = runningReload;
+                performsReload = true;
+            }
+        }
+
+        if (reload == null) {
+            performReload();
+        } else if (performsReload) {
+            if (previousReload != null) {
+                // Wait for the running reload to finish, regardless of its outcome
+                previousReload.handle((result, exception) -> null).join();
+            }
+            runReload(reload);
+        } else {
+            joinReload(reload);
+        }
+    }
+
+    /**
+     * Reloads the configuration on the given executor. Until the returned future is complete, the previous values
+     * remain available to {@link #getProperty}; the new values are published all at once.
+     *
+     * @param executor the executor to read and parse the configuration with
+     * @return future completed once the new values are published
+     */
+    public CompletableFuture<Void> reloadAsync(Executor executor) {
+        return CompletableFuture.runAsync(this::reload, executor);
+    }
+
+    private void runReload(CompletableFuture<Void> reload) {
+        synchronized (reloadLock) {
+            pendingReload = null;
+            runningReload = reload;
+            reloadingThread = Thread.currentThread();
+        }
+        try {
+            performReload();
+            reload.complete(null);
+        } catch (RuntimeException | Error e) {
+            reload.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (reloadLock) {
+                // The next reload may have started already once the future is complete
+                if (runningReload == reload) {
+                    runningReload = null;
+                    reloadingThread = null;
+                }
+            }
+        }
+    }
+
+    private void performReload() {
+        writeLock.lock();
+        try {
+            resource.reload();
+            validateAndLoadOptions();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void joinReload(CompletableFuture<Void> reload) {
+        try {
+            reload.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new ConfigMeException("Could not reload the configuration", e.getCause());
+        }
     }
 
     /**
      * Saves the config file. Use after migrating one or more settings.
      */
     public void save() {
-        resource.exportProperties(configurationData);
+        writeLock.lock();
+        try {
+            resource.exportProperties(configurationData);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Saves the config file on the given executor.
+     *
+     * @param executor the executor to write the configuration with
+     * @return future completed once the configuration has been saved
+     */
+    public CompletableFuture<Void> saveAsync(Executor executor) {
+        return CompletableFuture.runAsync(this::save, executor);
+    }
+
+    /**
+     * Applies the changes of a transaction. The values are set to the property resource and the affected properties
+     * are resolved again from it: if a changed property, or any other known property whose value is affected by the
+     * changes, is invalid with the new values, the previous values are set to the property resource again and an
+     * exception is thrown. Otherwise, the new values are published to readers at once and saved.
+     * <p>
+     * If saving fails, the new values remain in effect (they are only not persisted), so the change listeners
+     * are notified before the exception of the save is rethrown.
+     *
+     * @param changes the values to set by property
+     */
+    void commit(Map<Property<?>, Object> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<SettingsChangeEvent> events;
+        RuntimeException saveException = null;
+        writeLock.lock();
+        try {
+            PropertyValues oldValues = propertyValues;
+            Map<String, Object> previousValues = new LinkedHashMap<>();
+            PropertyValues newValues = oldValues;
+            try {
+                for (Map.Entry<Property<?>, Object> change : changes.entrySet()) {
+                    String path = change.getKey().getPath();
+                    if (!previousValues.containsKey(path)) {
+                        previousValues.put(path, copyValue(resource.getObject(path)));
+                    }
+                    setValueInResource(resource, change.getKey(), change.getValue());
+                }
+                // Resolve from the property resource itself, as it may not return the value that was set to it
+                // (e.g. a layered resource with a layer above the writable layer)
+                for (Property<?> property : changes.keySet()) {
+                    newValues = newValues.withUpdatedPath(resource, property.getPath());
+                }
+                checkNoPropertyBecameInvalid(changes, oldValues, newValues);
+            } catch (RuntimeException e) {
+                restorePreviousValues(previousValues);
+                throw e;
+            }
+
+            propertyValues = newValues;
+            events = hasChangeListeners()
+                ? createChangeEvents(oldValues, newValues, changes, SettingsChangeEvent.Source.SET)
+                : Collections.emptyList();
+            try {
+                save();
+            } catch (RuntimeException e) {
+                saveException = e;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        notifyChangeListeners(events);
+        if (saveException != null) {
+            throw saveException;
+        }
+    }
+
+    private void restorePreviousValues(Map<String, Object> previousValues) {
+        List<String> paths = new ArrayList<>(previousValues.keySet());
+        Collections.reverse(paths);
+        for (String path : paths) {
+            resource.setValue(path, previousValues.get(path));
+        }
+    }
+
+    /**
+     * Copies maps and lists, so that the previous value of a path is not changed when values below it are set.
+     */
+    @Nullable
+    private static Object copyValue(@Nullable Object value) {
+        if (value instanceof Map<?, ?>) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((key, entry) -> copy.put(key, copyValue(entry)));
+            return copy;
+        } else if (value instanceof List<?>) {
+            List<Object> copy = new ArrayList<>();
+            ((List<?>) value).forEach(entry -> copy.add(copyValue(entry)));
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Throws an exception if a changed property is invalid, or if another property was valid before the changes
+     * and is invalid afterwards (e.g. because the value at a parent path was changed).
+     */
+    private static void checkNoPropertyBecameInvalid(Map<Property<?>, Object> changes, PropertyValues oldValues,
+                                                     PropertyValues newValues) {
+        for (Property<?> property : newValues.getInvalidProperties()) {
+            if (changes.containsKey(property) || !oldValues.getInvalidProperties().contains(property)) {
+                String violations = newValues.getConstraintViolations().stream()
+                    .filter(violation -> violation.getProperty() == property)
+                    .map(violation -> " (" + violation.getDescription() + ")")
+                    .collect(Collectors.joining());
+                String value = changes.containsKey(property)
+                    ? String.valueOf(changes.get(property))
+                    : "value affected by the changes";
+                throw new ConfigMeException("Invalid value for property '" + property.getPath()
+                    + "': " + value + violations);
+            }
+        }
     }
 
     /**
      * Checks with the migration service if the configuration is up to date.
-     * If not, saves the config.
+     * If not, saves the config. Afterwards, resolves the values of all known properties
+     * and makes them available to {@link #getProperty} at once. On a reload, change events
+     * are published if there are subscribers; if the configuration was migrated, all changes
+     * are reported as {@link SettingsChangeEvent.Source#MIGRATION migration} changes, as the values
+     * are only resolved once.
      */
     protected void validateAndLoadOptions() {
-        if (migrationService != null
-                && migrationService.checkAndMigrate(resource, configurationData.getProperties())) {
+        List<Property<?>> properties = configurationData.getProperties();
+        PropertyValues oldValues = propertyValues;
+        boolean isMigrated = migrationService != null && migrationService.checkAndMigrate(resource, properties);
+        if (isMigrated) {
             save();
         }
+        propertyValues = PropertyValues.resolve(resource, properties);
+
+        if (oldValues != null && changePublisher.hasSubscribers()) {
+            changePublisher.publish(createChangeEvents(oldValues, propertyValues, Collections.emptyMap(),
+                isMigrated ? SettingsChangeEvent.Source.MIGRATION : SettingsChangeEvent.Source.RELOAD));
+        }
+    }
+
+    private static void setValueInResource(PropertyResource resource, Property<?> property, Object value) {
+        if (property instanceof OptionalProperty<?>) {
+            resource.setValue(property.getPath(), ((Optional<?>) value).orElse(null));
+        } else {
+            resource.setValue(property.getPath(), value);
+        }
+    }
+
+    /**
+     * Creates events for the properties whose value differs between the two snapshots, as well as for the
+     * modified properties which are not known (and are therefore not part of the snapshots).
+     */
+    private List<SettingsChangeEvent> createChangeEvents(PropertyValues oldValues, PropertyValues newValues,
+                                                         Map<? extends Property<?>, ?> modifiedValues,
+                                                         SettingsChangeEvent.Source source) {
+        List<SettingsChangeEvent> events = new ArrayList<>();
+        if (oldValues != newValues) {
+            for (Property<?> property : configurationData.getProperties()) {
+                Object oldValue = oldValues.get(property);
+                Object newValue = newValues.get(property);
+                if (!isSameValue(oldValue, newValue)) {
+                    events.add(new SettingsChangeEvent(property, oldValue, newValue, source));
+                }
+            }
+        }
+        for (Map.Entry<? extends Property<?>, ?> entry : modifiedValues.entrySet()) {
+            if (!newValues.contains(entry.getKey())) {
+                events.add(new SettingsChangeEvent(entry.getKey(), null, entry.getValue(), source));
+            }
+        }
+        return events;
+    }
+
+    private boolean hasChangeListeners() {
+        return !changeListeners.isEmpty() || changePublisher.hasSubscribers();
+    }
+
+    private static boolean isSameValue(Object oldValue, Object newValue) {
+        if (oldValue instanceof Pattern && newValue instanceof Pattern) {
+            // Pattern does not implement equals
+            return ((Pattern) oldValue).pattern().equals(((Pattern) newValue).pattern())
+                && ((Pattern) oldValue).flags() == ((Pattern) newValue).flags();
+        }
+        return Objects.equals(oldValue, newValue);
+    }
+
+    private void notifyChangeListeners(List<SettingsChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Set<Property<?>> changedProperties = new LinkedHashSet<>();
+        events.forEach(event -> changedProperties.add(event.getProperty()));
+        Set<Property<?>> unmodifiableChangedProperties = Collections.unmodifiableSet(changedProperties);
+        for (SettingsChangeListener listener : changeListeners) {
+            listener.onChange(unmodifiableChangedProperties);
+        }
+        changePublisher.publish(events);
     }
 
 }
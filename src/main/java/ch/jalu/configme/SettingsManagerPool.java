@@ -0,0 +1,208 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.migration.MigrationService;
+import ch.jalu.configme.resource.PropertyResource;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Pool of settings managers for multiple configurations of the same structure, e.g. one configuration file per
+ * tenant. All settings managers share the same {@link ConfigurationData}, which is therefore only gathered once.
+ * (The JavaBean metadata of bean properties is kept by the properties' mapper, which is shared as well.)
+ * <p>
+ * A settings manager is created when its key is requested for the first time. The pool keeps at most a given number
+ * of settings managers; when the limit is exceeded, the least recently used one is evicted. The pool is only bounded
+ * by this number, not by memory: the memory used by a settings manager depends on its property resource and cannot be
+ * determined cheaply, so the maximum size should be chosen based on the expected size of one configuration. An
+ * evicted settings manager is not saved: values set with {@link SettingsManager#setProperty} must be saved before
+ * they can be evicted.
+ *
+ * @param <K> the key type, e.g. the tenant identifier
+ */
+public class SettingsManagerPool<K> {
+
+    private final ConfigurationData configurationData;
+    private final Function<? super K, ? extends PropertyResource> resourceFactory;
+    private final MigrationService migrationService;
+    /** Settings manager of each key, as a future which is completed once the settings manager has been created. */
+    private final LruMap<K, CompletableFuture<SettingsManager>> settingsManagers;
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceFactory function creating the property resource for a key
+     * @param migrationService migration service to check each property resource with, or null
+     * @param maximumSize maximum number of settings managers to keep
+     * @param settingsClasses classes whose Property fields make up all known properties
+     */
+    @SafeVarargs
+    public SettingsManagerPool(Function<? super K, ? extends PropertyResource> resourceFactory,
+                               @Nullable MigrationService migrationService, int maximumSize,
+                               Class<? extends SettingsHolder>... settingsClasses) {
+        this(resourceFactory, migrationService, maximumSize, ConfigurationDataBuilder.collectData(settingsClasses));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param resourceFactory function creating the property resource for a key
+     * @param migrationService migration service to check each property resource with, or null
+     * @param maximumSize maximum number of settings managers to keep
+     * @param configurationData the configuration data
+     */
+    public SettingsManagerPool(Function<? super K, ? extends PropertyResource> resourceFactory,
+                               @Nullable MigrationService migrationService, int maximumSize,
+                               ConfigurationData configurationData) {
+        if (maximumSize < 1) {
+            throw new ConfigMeException("Maximum size must be positive, but got " + maximumSize);
+        }
+        this.configurationData = configurationData;
+        this.resourceFactory = resourceFactory;
+        this.migrationService = migrationService;
+        this.settingsManagers = new LruMap<>(maximumSize);
+    }
+
+    /**
+     * Returns the settings manager for the given key, creating it if it is not in the pool.
+     * The settings manager is created outside of any lock, so that loading one configuration
+     * does not block access to other configurations. Threads which request the same key while
+     * its settings manager is being created wait for it instead of creating another one.
+     *
+     * @param key the key to get the settings manager for
+     * @return the settings manager
+     */
+    public SettingsManager get(K key) {
+        CompletableFuture<SettingsManager> existingFuture;
+        CompletableFuture<SettingsManager> future = null;
+        synchronized (settingsManagers) {
+            existingFuture = settingsManagers.get(key);
+            if (existingFuture != null) {
+                ++hitCount;
+            } else {
+                ++missCount;
+                future = new CompletableFuture<>();
+                settingsManagers.put(key, future);
+            }
+        }
+        if (existingFuture != null) {
+            // Wait outside of the lock in case the settings manager is still being created by another thread
+            return join(existingFuture);
+        }
+
+        try {
+            SettingsManager settingsManager =
+                new SettingsManager(resourceFactory.apply(key), migrationService, configurationData);
+            future.complete(settingsManager);
+            return settingsManager;
+        } catch (RuntimeException | Error e) {
+            synchronized (settingsManagers) {
+                settingsManagers.remove(key, future);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the settings manager of the given key from the pool, if present.
+     *
+     * @param key the key whose settings manager should be removed
+     */
+    public void invalidate(K key) {
+        synchronized (settingsManagers) {
+            settingsManagers.remove(key);
+        }
+    }
+
+    /**
+     * @return the configuration data shared by all settings managers
+     */
+    public ConfigurationData getConfigurationData() {
+        return configurationData;
+    }
+
+    /**
+     * @return number of settings managers currently in the pool
+     */
+    public int size() {
+        synchronized (settingsManagers) {
+            return settingsManagers.size();
+        }
+    }
+
+    /**
+     * @return number of times a requested settings manager was in the pool
+     */
+    public long getHitCount() {
+        synchronized (settingsManagers) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * @return number of times a requested settings manager had to be created
+     */
+    public long getMissCount() {
+        synchronized (settingsManagers) {
+            return missCount;
+        }
+    }
+
+    /**
+     * @return number of settings managers that were removed from the pool because it was full
+     */
+    public long getEvictionCount() {
+        synchronized (settingsManagers) {
+            return settingsManagers.evictionCount;
+        }
+    }
+
+    private static SettingsManager join(CompletableFuture<SettingsManager> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new ConfigMeException("Could not create settings manager", e.getCause());
+        }
+    }
+
+    /**
+     * Map in access order which removes the least recently used entry when it exceeds its maximum size.
+     */
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+        private long evictionCount;
+
+        LruMap(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > maximumSize) {
+                ++evictionCount;
+                return true;
+            }
+            return false;
+        }
+    }
+}
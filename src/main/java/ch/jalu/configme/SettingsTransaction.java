@@ -0,0 +1,75 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Batch of property changes which are applied to a {@link SettingsManager} together.
+ * <p>
+ * Values set to the transaction are only staged; readers of the settings manager do not see them until the
+ * transaction is committed. On {@link #commit}, all values are set to the property resource and validated together:
+ * if any property cannot use its new value, or another property becomes invalid because of the changes, the previous
+ * values are set to the property resource again. Otherwise, the values are published to readers at once,
+ * the configuration is saved a single time and the {@link SettingsChangeListener change listeners} are notified
+ * once. If saving fails, the new values remain in effect and the listeners are notified before the exception is
+ * thrown.
+ * <p>
+ * A transaction is not thread-safe and can only be committed once.
+ *
+ * @see SettingsManager#beginTransaction
+ */
+public final class SettingsTransaction {
+
+    private final SettingsManager settingsManager;
+    private final Map<Property<?>, Object> changes = new LinkedHashMap<>();
+    private boolean committed;
+
+    SettingsTransaction(SettingsManager settingsManager) {
+        this.settingsManager = settingsManager;
+    }
+
+    /**
+     * Stages a new value for the given property. Setting the same property again replaces the staged value.
+     *
+     * @param property the property to modify
+     * @param value the new value
+     * @param <T> the property's type
+     * @return this transaction
+     */
+    public <T> SettingsTransaction set(Property<T> property, T value) {
+        checkNotCommitted();
+        Objects.requireNonNull(value, "value");
+        changes.remove(property); // keep the order of the last call
+        changes.put(property, value);
+        return this;
+    }
+
+    /**
+     * @return number of staged changes
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Validates and applies all staged values, saves the configuration and notifies the change listeners.
+     *
+     * @throws ConfigMeException if a property cannot use its staged value or another property becomes invalid;
+     *                           the previous values are restored in this case
+     */
+    public void commit() {
+        checkNotCommitted();
+        committed = true;
+        settingsManager.commit(changes);
+    }
+
+    private void checkNotCommitted() {
+        if (committed) {
+            throw new ConfigMeException("The transaction has already been committed");
+        }
+    }
+}
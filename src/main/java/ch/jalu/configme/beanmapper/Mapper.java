@@ -8,13 +8,13 @@ import ch.jalu.configme.utils.TypeInformation;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static ch.jalu.configme.beanmapper.MapperUtils.invokeDefaultConstructor;
 
@@ -49,7 +49,7 @@ public class Mapper {
     private final MappingErrorHandler errorHandler;
     private final Transformer[] transformers;
     private final BeanDescriptionFactory beanDescriptionFactory;
-    private final Map<String, Collection<BeanPropertyDescription>> classProperties = new HashMap<>();
+    private final Map<String, Collection<BeanPropertyDescription>> classProperties = new ConcurrentHashMap<>();
 
     /**
      * Creates a new JavaBean mapper with the default configuration.
@@ -115,6 +115,58 @@ public class Mapper {
         return convertToBean(typeInformation, value, context);
     }
 
+    /**
+     * Returns whether the value in the property resource at the given path has the structure required to create
+     * a bean of the given class, without performing the mapping. Every bean property must either have a value in the
+     * resource or have a default value in the bean class; nested beans are checked recursively. Leaf values are not
+     * converted, i.e. this method may return true for a section whose mapping would fail because of an invalid value.
+     *
+     * @param path the path of the section to check
+     * @param resource the property resource to read from
+     * @param clazz the JavaBean class
+     * @return true if the section has the structure of the bean class, false otherwise
+     */
+    public boolean hasBeanStructure(String path, PropertyResource resource, Class<?> clazz) {
+        Object value = resource.getObject(path);
+        return clazz.isInstance(value) || hasBeanStructure(TypeInformation.of(clazz), value);
+    }
+
+    // Structural counterpart of #convertToBean(TypeInformation, Object, MappingContext)
+    protected boolean hasBeanStructure(TypeInformation<?> type, @Nullable Object value) {
+        Collection<BeanPropertyDescription> properties = getWritableProperties(type.getClazz());
+        if (properties.isEmpty() || !(value instanceof Map<?, ?>)) {
+            return false;
+        }
+
+        Map<?, ?> entries = (Map<?, ?>) value;
+        Object defaultBean = null;
+        for (BeanPropertyDescription property : properties) {
+            if (!hasValueStructure(property.getTypeInformation(), entries.get(property.getName()))) {
+                if (defaultBean == null) {
+                    defaultBean = invokeDefaultConstructor(type.getClazz());
+                }
+                if (property.getValue(defaultBean) == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Structural counterpart of #getPropertyValue
+    protected boolean hasValueStructure(TypeInformation<?> type, @Nullable Object value) {
+        if (type.getClazz() == Optional.class) {
+            return true;
+        } else if (type.isOfType(Iterable.class)) {
+            return value instanceof Iterable<?>;
+        } else if (type.isOfType(Map.class)) {
+            return value instanceof Map<?, ?>;
+        } else if (value instanceof Map<?, ?> && !getWritableProperties(type.getClazz()).isEmpty()) {
+            return hasBeanStructure(type, value);
+        }
+        return value != null;
+    }
+
     // Handles List and Set fields
     @Nullable
     protected Collection<?> processCollection(TypeInformation<?> type, Object value, MappingContext context) {
@@ -1,8 +1,12 @@
 package ch.jalu.configme.configurationdata;
 
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.utils.PathUtils;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +19,8 @@ public class ConfigurationData {
 
     private final List<Property<?>> properties;
     private final Map<String, String[]> sectionComments;
+    /** Tree of the property paths; created lazily if not provided on construction. */
+    private volatile PathTree pathTree;
 
     public ConfigurationData(List<? extends Property<?>> properties) {
         this(properties, Collections.emptyMap());
@@ -25,6 +31,21 @@ public class ConfigurationData {
         this.sectionComments = Collections.unmodifiableMap(sectionComments);
     }
 
+    /**
+     * Constructor. The properties are taken from the given tree (e.g. from {@link PropertyListBuilder#getRootNode}),
+     * which is kept so that the paths of the properties do not need to be processed again.
+     *
+     * @param rootNode the root node of the property tree
+     * @param sectionComments the section comments
+     */
+    public ConfigurationData(PathNode rootNode, Map<String, String[]> sectionComments) {
+        List<Property<?>> propertyList = new ArrayList<>();
+        rootNode.collectProperties(propertyList);
+        this.properties = Collections.unmodifiableList(propertyList);
+        this.sectionComments = Collections.unmodifiableMap(sectionComments);
+        this.pathTree = new PathTree(rootNode);
+    }
+
     public List<Property<?>> getProperties() {
         return properties;
     }
@@ -33,4 +54,76 @@ public class ConfigurationData {
         String[] comments = sectionComments.get(path);
         return (comments == null) ? new String[0] : comments;
     }
+
+    /**
+     * Returns the root of the tree of all property paths.
+     *
+     * @return the root node
+     */
+    public PathNode getRootNode() {
+        return getPathTree().rootNode;
+    }
+
+    /**
+     * Returns the node of the given property in the tree of property paths.
+     *
+     * @param property the property to look up
+     * @return the property's node, or null if the property is not part of this configuration data
+     */
+    @Nullable
+    public PathNode getPathNode(Property<?> property) {
+        return getPathTree().nodesByProperty.get(property);
+    }
+
+    private PathTree getPathTree() {
+        PathTree tree = pathTree;
+        if (tree == null) {
+            tree = new PathTree(buildTree(properties));
+            pathTree = tree;
+        }
+        return tree;
+    }
+
+    /**
+     * Builds a tree for the given properties. Unlike {@link PropertyListBuilder}, does not throw any
+     * exceptions for conflicting paths as any list of properties is accepted by this class.
+     *
+     * @param properties the properties to create a tree for
+     * @return root node of the tree
+     */
+    private static PathNode buildTree(List<Property<?>> properties) {
+        PathNode rootNode = PathNode.createRoot();
+        for (Property<?> property : properties) {
+            PathNode node = rootNode;
+            for (String pathElement : PathUtils.splitPath(property.getPath())) {
+                node = node.getOrCreateChild(pathElement);
+            }
+            if (node.getProperty() == null) {
+                node.setProperty(property);
+            }
+        }
+        return rootNode;
+    }
+
+    /**
+     * Root node of the property tree, along with the node of each property.
+     */
+    private static final class PathTree {
+        private final PathNode rootNode;
+        private final Map<Property<?>, PathNode> nodesByProperty = new IdentityHashMap<>();
+
+        PathTree(PathNode rootNode) {
+            this.rootNode = rootNode;
+            collectNodesByProperty(rootNode);
+        }
+
+        private void collectNodesByProperty(PathNode node) {
+            if (node.getProperty() != null) {
+                nodesByProperty.put(node.getProperty(), node);
+            }
+            for (PathNode child : node.getChildren()) {
+                collectNodesByProperty(child);
+            }
+        }
+    }
 }
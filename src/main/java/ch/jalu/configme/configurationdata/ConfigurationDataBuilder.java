@@ -55,7 +55,8 @@ public class ConfigurationDataBuilder {
             builder.collectProperties(clazz);
             builder.commentsGatherer.collectAllSectionComments(clazz);
         }
-        return new ConfigurationData(builder.propertyListBuilder.create(), builder.commentsGatherer.getComments());
+        return new ConfigurationData(builder.propertyListBuilder.getRootNode(),
+            builder.commentsGatherer.getComments());
     }
 
     private void collectProperties(Class<?> clazz) {
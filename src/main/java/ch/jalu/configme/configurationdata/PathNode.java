@@ -0,0 +1,184 @@
+package ch.jalu.configme.configurationdata;
+
+import ch.jalu.configme.properties.Property;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Node in the tree of property paths. Each node represents one element of a path, e.g. the path
+ * {@code "DataSource.mysql.port"} is represented by the nodes {@code DataSource}, {@code mysql} and
+ * {@code port} below the root node. Children are kept in order of insertion.
+ *
+ * @see PropertyListBuilder
+ */
+public final class PathNode {
+
+    /** Number of children from which on children are additionally indexed by name. */
+    private static final int INDEX_THRESHOLD = 8;
+
+    private final String name;
+    @Nullable
+    private final PathNode parent;
+    private final int depth;
+    private final List<PathNode> children = new ArrayList<>(2);
+    private final List<PathNode> unmodifiableChildren = Collections.unmodifiableList(children);
+    @Nullable
+    private Map<String, PathNode> childrenByName;
+    @Nullable
+    private Property<?> property;
+    @Nullable
+    private List<String> pathElements;
+
+    private PathNode(String name, @Nullable PathNode parent) {
+        this.name = name;
+        this.parent = parent;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    /**
+     * Creates a new root node.
+     *
+     * @return root node
+     */
+    public static PathNode createRoot() {
+        return new PathNode("", null);
+    }
+
+    /**
+     * @return the path element this node represents (empty string for the root)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the parent node, or null if this is the root
+     */
+    @Nullable
+    public PathNode getParent() {
+        return parent;
+    }
+
+    /**
+     * @return the depth of this node: 0 for the root, 1 for its children, and so forth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return the children of this node in order of insertion (unmodifiable)
+     */
+    public List<PathNode> getChildren() {
+        return unmodifiableChildren;
+    }
+
+    /**
+     * Returns the child with the given name, or null if it does not exist.
+     *
+     * @param childName the name of the child to look up
+     * @return the child, or null
+     */
+    @Nullable
+    public PathNode getChild(String childName) {
+        if (childrenByName != null) {
+            return childrenByName.get(childName);
+        }
+        for (PathNode child : children) {
+            if (child.name.equals(childName)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the property at this node's path, or null if there is none
+     */
+    @Nullable
+    public Property<?> getProperty() {
+        return property;
+    }
+
+    /**
+     * Returns the elements of the path this node represents, e.g. {@code ["DataSource", "mysql"]}
+     * for the {@code mysql} node in the example of the class Javadoc. Empty for the root node.
+     *
+     * @return the path elements (unmodifiable)
+     */
+    public List<String> getPathElements() {
+        if (pathElements == null) {
+            String[] elements = new String[depth];
+            PathNode node = this;
+            while (node.parent != null) {
+                elements[node.depth - 1] = node.name;
+                node = node.parent;
+            }
+            pathElements = Collections.unmodifiableList(Arrays.asList(elements));
+        }
+        return pathElements;
+    }
+
+    /**
+     * @return the full path of this node, e.g. {@code "DataSource.mysql"}
+     */
+    public String getPath() {
+        return String.join(".", getPathElements());
+    }
+
+    /**
+     * Adds a new child with the given name. The caller must ensure that no child with the name exists yet.
+     *
+     * @param childName the name of the child to add
+     * @return the new child
+     */
+    PathNode addChild(String childName) {
+        PathNode child = new PathNode(childName, this);
+        children.add(child);
+        if (childrenByName != null) {
+            childrenByName.put(childName, child);
+        } else if (children.size() > INDEX_THRESHOLD) {
+            childrenByName = new HashMap<>();
+            for (PathNode existingChild : children) {
+                childrenByName.put(existingChild.name, existingChild);
+            }
+        }
+        return child;
+    }
+
+    /**
+     * Returns the child with the given name, creating it if it does not exist.
+     *
+     * @param childName the name of the child
+     * @return the child
+     */
+    PathNode getOrCreateChild(String childName) {
+        PathNode child = getChild(childName);
+        return child == null ? addChild(childName) : child;
+    }
+
+    void setProperty(Property<?> property) {
+        this.property = property;
+    }
+
+    /**
+     * Adds the property of this node and all properties of its descendants to the given list,
+     * in order of the tree (depth-first).
+     *
+     * @param properties the list to add the properties to
+     */
+    void collectProperties(List<Property<?>> properties) {
+        if (property != null) {
+            properties.add(property);
+        }
+        for (PathNode child : children) {
+            child.collectProperties(properties);
+        }
+    }
+}
@@ -2,9 +2,11 @@ package ch.jalu.configme.configurationdata;
 
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.utils.PathUtils;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,64 +20,96 @@ import java.util.Map;
  *   <li>are ordered by insertion, e.g. if the first "DataSource" property is inserted before the first "security"
  *   property, then "DataSource" properties will come before the "security" ones.</li>
  * </ul>
+ * Internally, the properties are kept in a tree of {@link PathNode} objects, which can be passed on to
+ * {@link ConfigurationData} so that the path of each property does not need to be processed again.
  */
 public class PropertyListBuilder {
 
-    private Map<String, Object> rootEntries;
-
-    public PropertyListBuilder() {
-        rootEntries = new LinkedHashMap<>();
-    }
+    private final PathNode rootNode = PathNode.createRoot();
+    /** Path elements that have been encountered, so that equal path elements share the same String instance. */
+    private final Map<String, String> internedPathElements = new HashMap<>();
+    private int size;
 
     public void add(Property<?> property) {
-        String[] paths = property.getPath().split("\\.");
-        Map<String, Object> map = rootEntries;
-        for (int i = 0; i < paths.length - 1; ++i) {
-            map = getChildMap(map, paths[i]);
-        }
+        String[] pathElements = PathUtils.splitPath(property.getPath());
+        addPropertyNode(getParentNode(pathElements), pathElements[pathElements.length - 1], property);
+    }
 
-        final String end = paths[paths.length - 1];
-        if (map.containsKey(end)) {
-            throw new ConfigMeException("Path at '" + property.getPath() + "' already exists");
+    /**
+     * Adds all given properties. Equivalent to calling {@link #add} for each property, but
+     * avoids looking up the parent node again if consecutive properties share the same parent path.
+     *
+     * @param properties the properties to add
+     */
+    public void addAll(Collection<? extends Property<?>> properties) {
+        String[] previousPathElements = new String[0];
+        PathNode previousParent = rootNode;
+        for (Property<?> property : properties) {
+            String[] pathElements = PathUtils.splitPath(property.getPath());
+            PathNode parent = hasSameParent(previousPathElements, pathElements)
+                ? previousParent
+                : getParentNode(pathElements);
+            addPropertyNode(parent, pathElements[pathElements.length - 1], property);
+            previousPathElements = pathElements;
+            previousParent = parent;
         }
-        map.put(end, property);
     }
 
     public List<Property<?>> create() {
-        List<Property<?>> result = new ArrayList<>();
-        collectEntries(rootEntries, result);
+        List<Property<?>> result = new ArrayList<>(size);
+        rootNode.collectProperties(result);
         return result;
     }
 
-    private static Map<String, Object> getChildMap(Map<String, Object> parent, String path) {
-        Object o = parent.get(path);
-        if (o instanceof Map<?, ?>) {
-            return asTypedMap(o);
-        } else if (o == null) {
-            Map<String, Object> map = new LinkedHashMap<>();
-            parent.put(path, map);
-            return map;
-        } else { // uh oh
-            if (o instanceof Property<?>) {
-                throw new ConfigMeException("Unexpected entry found at path '" + path + "'");
-            } else {
-                throw new ConfigMeException("Value of unknown type found at '" + path + "': " + o);
-            }
+    /**
+     * Returns the root of the tree of all added properties.
+     *
+     * @return the root node
+     */
+    public PathNode getRootNode() {
+        return rootNode;
+    }
+
+    private PathNode getParentNode(String[] pathElements) {
+        PathNode node = rootNode;
+        for (int i = 0; i < pathElements.length - 1; ++i) {
+            node = getChildNode(node, pathElements[i]);
         }
+        return node;
     }
 
-    private static void collectEntries(Map<String, Object> map, List<Property<?>> results) {
-        for (Object o : map.values()) {
-            if (o instanceof Map<?, ?>) {
-                collectEntries(asTypedMap(o), results);
-            } else if (o instanceof Property<?>) {
-                results.add((Property<?>) o);
-            }
+    private PathNode getChildNode(PathNode parent, String name) {
+        PathNode child = parent.getChild(name);
+        if (child == null) {
+            return parent.addChild(intern(name));
+        } else if (child.getProperty() != null) {
+            throw new ConfigMeException("Unexpected entry found at path '" + child.getPath() + "'");
         }
+        return child;
     }
 
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> asTypedMap(Object o) {
-        return (Map<String, Object>) o;
+    private void addPropertyNode(PathNode parent, String name, Property<?> property) {
+        if (parent.getChild(name) != null) {
+            throw new ConfigMeException("Path at '" + property.getPath() + "' already exists");
+        }
+        parent.addChild(intern(name)).setProperty(property);
+        ++size;
+    }
+
+    private String intern(String pathElement) {
+        String interned = internedPathElements.putIfAbsent(pathElement, pathElement);
+        return interned == null ? pathElement : interned;
+    }
+
+    private static boolean hasSameParent(String[] pathElements1, String[] pathElements2) {
+        if (pathElements1.length != pathElements2.length || pathElements1.length == 0) {
+            return false;
+        }
+        for (int i = 0; i < pathElements1.length - 1; ++i) {
+            if (!pathElements1[i].equals(pathElements2[i])) {
+                return false;
+            }
+        }
+        return true;
     }
 }
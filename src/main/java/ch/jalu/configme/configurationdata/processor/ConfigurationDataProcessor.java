@@ -0,0 +1,257 @@
+package ch.jalu.configme.configurationdata.processor;
+
+import ch.jalu.configme.Comment;
+import ch.jalu.configme.GenerateConfigurationData;
+import ch.jalu.configme.SectionComments;
+import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.properties.Property;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor for {@link SettingsHolder} classes annotated with {@link GenerateConfigurationData}.
+ * <p>
+ * For each annotated class, generates a class {@code <HolderName>_ConfigurationData} which creates the class'
+ * {@link ch.jalu.configme.configurationdata.ConfigurationData} by referencing its property fields and section comment
+ * methods directly. The same rules as in {@link ch.jalu.configme.configurationdata.ConfigurationDataBuilder} apply,
+ * but violations (e.g. non-public property fields or non-static section comment methods) are reported when compiling.
+ * <p>
+ * The paths of properties are only known once the property fields have been initialized, so the grouping of the
+ * properties by path (and the check for duplicate paths) is performed by the generated code. No reflection is used.
+ */
+@SupportedAnnotationTypes("ch.jalu.configme.GenerateConfigurationData")
+public class ConfigurationDataProcessor extends AbstractProcessor {
+
+    /** Suffix appended to the holder class name for the generated class. */
+    public static final String GENERATED_CLASS_SUFFIX = "_ConfigurationData";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateConfigurationData.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@GenerateConfigurationData may only be used on classes");
+            } else {
+                processHolderClass((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void processHolderClass(TypeElement holder) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+
+        if (!types.isAssignable(holder.asType(), elements.getTypeElement(SettingsHolder.class.getName()).asType())) {
+            error(holder, "Class '" + holder.getQualifiedName() + "' must implement SettingsHolder");
+            return;
+        } else if (holder.getNestingKind() != NestingKind.TOP_LEVEL
+                   && !holder.getModifiers().contains(Modifier.STATIC)) {
+            error(holder, "Nested class '" + holder.getQualifiedName() + "' must be static");
+            return;
+        } else if (holder.getModifiers().contains(Modifier.PRIVATE)) {
+            error(holder, "Class '" + holder.getQualifiedName() + "' may not be private");
+            return;
+        }
+
+        List<VariableElement> propertyFields = collectPropertyFields(holder);
+        List<ExecutableElement> sectionCommentMethods = collectSectionCommentMethods(holder);
+        if (propertyFields != null && sectionCommentMethods != null) {
+            writeGeneratedClass(holder, propertyFields, sectionCommentMethods);
+        }
+    }
+
+    /**
+     * Returns all static {@link Property} fields declared in the given class, in order of declaration.
+     * Returns null if an invalid field was encountered (an error has been reported in that case).
+     *
+     * @param holder the class to process
+     * @return the property fields, or null if there was an error
+     */
+    private List<VariableElement> collectPropertyFields(TypeElement holder) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror propertyType = types.erasure(
+            processingEnv.getElementUtils().getTypeElement(Property.class.getName()).asType());
+
+        List<VariableElement> fields = new ArrayList<>();
+        boolean hasError = false;
+        for (Element member : holder.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD && member.getModifiers().contains(Modifier.STATIC)
+                && types.isAssignable(types.erasure(member.asType()), propertyType)) {
+                if (member.getModifiers().contains(Modifier.PUBLIC)) {
+                    fields.add((VariableElement) member);
+                } else {
+                    error(member, "Property field '" + member.getSimpleName() + "' in '"
+                        + holder.getQualifiedName() + "' must be public");
+                    hasError = true;
+                }
+            }
+        }
+        return hasError ? null : fields;
+    }
+
+    /**
+     * Returns all public methods annotated with {@link SectionComments}, including inherited ones.
+     * Returns null if an invalid method was encountered (an error has been reported in that case).
+     *
+     * @param holder the class to process
+     * @return the section comment methods, or null if there was an error
+     */
+    private List<ExecutableElement> collectSectionCommentMethods(TypeElement holder) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        TypeMirror stringType = elements.getTypeElement(String.class.getName()).asType();
+        TypeMirror expectedReturnType = types.getDeclaredType(elements.getTypeElement("java.util.Map"),
+            stringType, types.getArrayType(stringType));
+
+        List<ExecutableElement> methods = new ArrayList<>();
+        boolean hasError = false;
+        for (Element member : elements.getAllMembers(holder)) {
+            if (member.getKind() != ElementKind.METHOD || member.getAnnotation(SectionComments.class) == null) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            String methodName = method.getEnclosingElement() + "#" + method.getSimpleName();
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                // Reflection-based collection only considers public methods, so such a method would be ignored
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "@SectionComments method '" + methodName + "' is not public and will be ignored", method);
+            } else if (!method.getModifiers().contains(Modifier.STATIC)) {
+                error(method, "Methods with @SectionComments must be static. Offending method: '" + methodName + "'");
+                hasError = true;
+            } else if (!method.getParameters().isEmpty()) {
+                error(method, "@SectionComments methods may not have any parameters. Offending method: '"
+                    + methodName + "'");
+                hasError = true;
+            } else if (!types.isAssignable(method.getReturnType(), expectedReturnType)) {
+                error(method, "Could not get section comments from '" + methodName
+                    + "': Return value must be Map<String, String[]>");
+                hasError = true;
+            } else {
+                methods.add(method);
+            }
+        }
+        return hasError ? null : methods;
+    }
+
+    private void writeGeneratedClass(TypeElement holder, List<VariableElement> propertyFields,
+                                     List<ExecutableElement> sectionCommentMethods) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(holder);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String holderName = holder.getQualifiedName().toString();
+        String generatedName = getGeneratedSimpleName(holder);
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n")
+          .append(" * Configuration data of {@link ").append(holderName).append("}.\n")
+          .append(" * Generated by ").append(getClass().getName()).append(".\n")
+          .append(" */\n")
+          .append("public final class ").append(generatedName).append(" {\n\n")
+          .append("    private ").append(generatedName).append("() {\n    }\n\n")
+          .append("    /**\n")
+          .append("     * Creates the configuration data with all properties and comments of the holder class.\n")
+          .append("     *\n")
+          .append("     * @return the configuration data\n")
+          .append("     */\n")
+          .append("    public static ch.jalu.configme.configurationdata.ConfigurationData create() {\n")
+          .append("        ch.jalu.configme.configurationdata.PropertyListBuilder propertyListBuilder =\n")
+          .append("            new ch.jalu.configme.configurationdata.PropertyListBuilder();\n")
+          .append("        java.util.Map<String, String[]> comments = new java.util.HashMap<>();\n");
+
+        for (VariableElement field : propertyFields) {
+            String fieldReference = holderName + "." + field.getSimpleName();
+            sb.append("        propertyListBuilder.add(").append(fieldReference).append(");\n");
+            Comment comment = field.getAnnotation(Comment.class);
+            if (comment != null) {
+                sb.append("        comments.put(").append(fieldReference).append(".getPath(), ")
+                  .append(toArrayExpression(comment.value())).append(");\n");
+            }
+        }
+        for (ExecutableElement method : sectionCommentMethods) {
+            sb.append("        putAllIfNotNull(comments, ")
+              .append(((TypeElement) method.getEnclosingElement()).getQualifiedName())
+              .append('.').append(method.getSimpleName()).append("());\n");
+        }
+
+        sb.append("        return new ch.jalu.configme.configurationdata.ConfigurationData(\n")
+          .append("            propertyListBuilder.getRootNode(), comments);\n")
+          .append("    }\n\n")
+          .append("    private static void putAllIfNotNull(java.util.Map<String, String[]> comments,\n")
+          .append("                                        java.util.Map<String, String[]> sectionComments) {\n")
+          .append("        if (sectionComments != null) {\n")
+          .append("            comments.putAll(sectionComments);\n")
+          .append("        }\n")
+          .append("    }\n")
+          .append("}\n");
+
+        String qualifiedGeneratedName = packageName.isEmpty() ? generatedName : packageName + "." + generatedName;
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedGeneratedName, holder);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(sb.toString());
+            }
+        } catch (IOException e) {
+            error(holder, "Could not write generated class '" + qualifiedGeneratedName + "': " + e.getMessage());
+        }
+    }
+
+    private String toArrayExpression(String[] values) {
+        StringBuilder sb = new StringBuilder("new String[]{");
+        for (int i = 0; i < values.length; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(processingEnv.getElementUtils().getConstantExpression(values[i]));
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Returns the simple name of the class to generate for the given holder class. For nested classes,
+     * the names of the enclosing classes are included, e.g. {@code Outer_Inner_ConfigurationData}.
+     *
+     * @param holder the holder class
+     * @return simple name of the generated class
+     */
+    private static String getGeneratedSimpleName(TypeElement holder) {
+        StringBuilder name = new StringBuilder(holder.getSimpleName());
+        Element enclosing = holder.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(GENERATED_CLASS_SUFFIX).toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
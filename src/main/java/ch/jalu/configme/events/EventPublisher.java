@@ -0,0 +1,20 @@
+package ch.jalu.configme.events;
+
+/**
+ * Publisher of events to subscribers which signal their demand. Has the same contract as
+ * {@code java.util.concurrent.Flow.Publisher} (and the Reactive Streams {@code Publisher}), which is not available
+ * in Java 8; an adapter to these interfaces only needs to delegate each method.
+ *
+ * @param <T> the event type
+ */
+@FunctionalInterface
+public interface EventPublisher<T> {
+
+    /**
+     * Adds the given subscriber. The subscriber's {@link EventSubscriber#onSubscribe} method is called with a new
+     * subscription, with which it can request events.
+     *
+     * @param subscriber the subscriber to add
+     */
+    void subscribe(EventSubscriber<? super T> subscriber);
+}
@@ -0,0 +1,37 @@
+package ch.jalu.configme.events;
+
+/**
+ * Receiver of events from an {@link EventPublisher}. Has the same contract as
+ * {@code java.util.concurrent.Flow.Subscriber}: the methods are called one after the other, never concurrently,
+ * and {@link #onNext} is only called as often as events have been requested from the subscription.
+ *
+ * @param <T> the event type
+ */
+public interface EventSubscriber<T> {
+
+    /**
+     * Called once when the subscriber is subscribed, before any other method.
+     *
+     * @param subscription the subscription to request events with and to cancel
+     */
+    void onSubscribe(EventSubscription subscription);
+
+    /**
+     * Called for each requested event.
+     *
+     * @param event the event
+     */
+    void onNext(T event);
+
+    /**
+     * Called if the subscription is terminated because of an error. No further methods are called.
+     *
+     * @param throwable the error
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called when the publisher is closed and all events have been delivered. No further methods are called.
+     */
+    void onComplete();
+}
@@ -0,0 +1,20 @@
+package ch.jalu.configme.events;
+
+/**
+ * Link between an {@link EventPublisher} and one {@link EventSubscriber}. Has the same contract as
+ * {@code java.util.concurrent.Flow.Subscription}.
+ */
+public interface EventSubscription {
+
+    /**
+     * Requests the given number of additional events. {@link Long#MAX_VALUE} requests an unbounded number of events.
+     *
+     * @param n the number of events to request (must be positive)
+     */
+    void request(long n);
+
+    /**
+     * Cancels the subscription: no further events are delivered to the subscriber.
+     */
+    void cancel();
+}
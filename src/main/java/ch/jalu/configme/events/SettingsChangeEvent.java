@@ -0,0 +1,90 @@
+package ch.jalu.configme.events;
+
+import ch.jalu.configme.properties.Property;
+
+import javax.annotation.Nullable;
+
+/**
+ * Event for a property whose value has changed.
+ *
+ * @see SettingsChangePublisher
+ */
+public final class SettingsChangeEvent {
+
+    /**
+     * What caused the change.
+     */
+    public enum Source {
+
+        /** The value was set with the settings manager (directly or with a transaction). */
+        SET,
+
+        /** The configuration was reloaded. */
+        RELOAD,
+
+        /** The configuration was reloaded and modified by the migration service. */
+        MIGRATION
+
+    }
+
+    private final Property<?> property;
+    private final Object oldValue;
+    private final Object newValue;
+    private final Source source;
+
+    /**
+     * Constructor.
+     *
+     * @param property the property whose value has changed
+     * @param oldValue the previous value (null if unknown)
+     * @param newValue the new value
+     * @param source what caused the change
+     */
+    public SettingsChangeEvent(Property<?> property, @Nullable Object oldValue, Object newValue, Source source) {
+        this.property = property;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.source = source;
+    }
+
+    /**
+     * @return the property whose value has changed
+     */
+    public Property<?> getProperty() {
+        return property;
+    }
+
+    /**
+     * @return the path of the property
+     */
+    public String getPath() {
+        return property.getPath();
+    }
+
+    /**
+     * @return the previous value, or null if it is unknown
+     */
+    @Nullable
+    public Object getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * @return the new value
+     */
+    public Object getNewValue() {
+        return newValue;
+    }
+
+    /**
+     * @return what caused the change
+     */
+    public Source getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return "SettingsChangeEvent[" + getPath() + ": " + oldValue + " -> " + newValue + " (" + source + ")]";
+    }
+}
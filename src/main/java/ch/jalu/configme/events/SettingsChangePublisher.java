@@ -0,0 +1,237 @@
+package ch.jalu.configme.events;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+/**
+ * Publishes {@link SettingsChangeEvent change events} of a settings manager to subscribers.
+ * <p>
+ * Publishing never blocks: each subscription has a bounded buffer, and events are delivered to the subscriber on an
+ * executor as the subscriber requests them. If a subscriber does not keep up and its buffer is full, its subscription
+ * is terminated with {@link EventSubscriber#onError} (with a {@link ConfigMeException}) instead of blocking the
+ * thread which changed the settings. Such a subscriber can subscribe again and read the current values.
+ */
+public class SettingsChangePublisher implements EventPublisher<SettingsChangeEvent> {
+
+    /** Default number of events buffered per subscriber. */
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+
+    private final Executor executor;
+    private final int bufferSize;
+    private final List<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * Constructor. Events are delivered on the common fork-join pool with the default buffer size.
+     */
+    public SettingsChangePublisher() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor the executor to deliver events with
+     * @param bufferSize the maximum number of events buffered per subscriber
+     */
+    public SettingsChangePublisher(Executor executor, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new ConfigMeException("Buffer size must be positive, but got " + bufferSize);
+        }
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void subscribe(EventSubscriber<? super SettingsChangeEvent> subscriber) {
+        subscribe(event -> true, subscriber);
+    }
+
+    /**
+     * Subscribes to the change events of the given property only.
+     *
+     * @param property the property to receive events for
+     * @param subscriber the subscriber to add
+     */
+    public void subscribe(Property<?> property, EventSubscriber<? super SettingsChangeEvent> subscriber) {
+        subscribe(event -> event.getProperty().equals(property), subscriber);
+    }
+
+    /**
+     * Subscribes to the change events matching the given filter.
+     *
+     * @param filter the filter events must match to be delivered to the subscriber
+     * @param subscriber the subscriber to add
+     */
+    public void subscribe(Predicate<? super SettingsChangeEvent> filter,
+                          EventSubscriber<? super SettingsChangeEvent> subscriber) {
+        ChangeSubscription subscription = new ChangeSubscription(subscriber, filter);
+        subscriber.onSubscribe(subscription);
+        subscriptions.add(subscription);
+        // Check after adding the subscription so that it is completed here or by close(), whichever removes it
+        if (closed && subscriptions.remove(subscription)) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * @return true if there is at least one subscriber, false otherwise
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Publishes the given events to all subscribers whose filter matches. Does not block.
+     *
+     * @param events the events to publish
+     */
+    public void publish(Collection<SettingsChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (ChangeSubscription subscription : subscriptions) {
+            subscription.offer(events);
+        }
+    }
+
+    /**
+     * Closes the publisher: the subscribers are completed once they have received all buffered events.
+     */
+    public void close() {
+        closed = true;
+        for (ChangeSubscription subscription : subscriptions) {
+            if (subscriptions.remove(subscription)) {
+                subscription.complete();
+            }
+        }
+    }
+
+    private final class ChangeSubscription implements EventSubscription {
+
+        private final EventSubscriber<? super SettingsChangeEvent> subscriber;
+        private final Predicate<? super SettingsChangeEvent> filter;
+        private final Queue<SettingsChangeEvent> buffer = new ArrayDeque<>();
+        private long demand;
+        private boolean draining;
+        private boolean cancelled;
+        private boolean completed;
+        private Throwable error;
+
+        ChangeSubscription(EventSubscriber<? super SettingsChangeEvent> subscriber,
+                           Predicate<? super SettingsChangeEvent> filter) {
+            this.subscriber = subscriber;
+            this.filter = filter;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Number of requested events must be positive, got " + n);
+                } else {
+                    demand = (demand + n < 0) ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                buffer.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        void offer(Collection<SettingsChangeEvent> events) {
+            synchronized (this) {
+                for (SettingsChangeEvent event : events) {
+                    if (cancelled || error != null) {
+                        return;
+                    } else if (filter.test(event)) {
+                        if (buffer.size() >= bufferSize) {
+                            buffer.clear();
+                            error = new ConfigMeException("Subscriber did not keep up: more than " + bufferSize
+                                + " change events are pending");
+                        } else {
+                            buffer.add(event);
+                        }
+                    }
+                }
+            }
+            scheduleDrain();
+        }
+
+        void complete() {
+            synchronized (this) {
+                completed = true;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (draining || cancelled || !hasWork()) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        private boolean hasWork() {
+            return error != null || completed && buffer.isEmpty() || demand > 0 && !buffer.isEmpty();
+        }
+
+        private void drain() {
+            while (true) {
+                SettingsChangeEvent event;
+                synchronized (this) {
+                    if (cancelled || !hasWork()) {
+                        draining = false;
+                        return;
+                    } else if (error != null || buffer.isEmpty()) {
+                        // terminal signal: error, or completion after all events have been delivered
+                        cancelled = true;
+                        break;
+                    }
+                    event = buffer.poll();
+                    if (demand != Long.MAX_VALUE) {
+                        --demand;
+                    }
+                }
+                try {
+                    subscriber.onNext(event);
+                } catch (RuntimeException e) {
+                    cancel();
+                    return;
+                }
+            }
+
+            subscriptions.remove(this);
+            if (error != null) {
+                subscriber.onError(error);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+}
@@ -38,6 +38,20 @@ public class BeanProperty<B> extends Property<B> {
         return mapper.convertToBean(getPath(), resource, beanClass);
     }
 
+    /**
+     * Returns whether a bean can be created from the resource's section at the property's path. The structure
+     * of the section is checked first, so that a missing or incomplete section is rejected without mapping it;
+     * otherwise, the section is mapped so that invalid leaf values (e.g. text for a number) are detected.
+     *
+     * @param resource the property resource to check
+     * @return true if the property is present, false otherwise
+     * @see Mapper#hasBeanStructure(String, PropertyResource, Class)
+     */
+    @Override
+    public boolean isPresent(PropertyResource resource) {
+        return mapper.hasBeanStructure(getPath(), resource, beanClass) && getFromResource(resource) != null;
+    }
+
     /**
      * Returns the properties of the bean class to consider while creating the object.
      *
@@ -0,0 +1,57 @@
+package ch.jalu.configme.properties;
+
+/**
+ * A value of a property resource which violates a {@link PropertyConstraint} of its property.
+ */
+public final class ConstraintViolation {
+
+    private final Property<?> property;
+    private final Object value;
+    private final String description;
+
+    /**
+     * Constructor.
+     *
+     * @param property the property whose constraint is violated
+     * @param value the value in the property resource
+     * @param description description of the violation, as returned by the constraint
+     */
+    public ConstraintViolation(Property<?> property, Object value, String description) {
+        this.property = property;
+        this.value = value;
+        this.description = description;
+    }
+
+    /**
+     * @return the property whose constraint is violated
+     */
+    public Property<?> getProperty() {
+        return property;
+    }
+
+    /**
+     * @return the path of the property
+     */
+    public String getPath() {
+        return property.getPath();
+    }
+
+    /**
+     * @return the value in the property resource
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * @return description of the violation, e.g. "must be at least 1"
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return "Value '" + value + "' at '" + getPath() + "' " + description;
+    }
+}
@@ -0,0 +1,117 @@
+package ch.jalu.configme.properties;
+
+import javax.annotation.Nullable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Size of data, such as {@code 512MB}. Units are binary, i.e. one kilobyte is 1024 bytes.
+ *
+ * @see DataSizeProperty
+ */
+public final class DataSize implements Comparable<DataSize> {
+
+    private static final Pattern DATA_SIZE = Pattern.compile("(\\d+)\\s*([KMGT]?B?)", Pattern.CASE_INSENSITIVE);
+    private static final String[] UNITS = {"B", "KB", "MB", "GB", "TB"};
+
+    private final long bytes;
+
+    private DataSize(long bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * @param bytes the number of bytes
+     * @return data size with the given number of bytes
+     */
+    public static DataSize ofBytes(long bytes) {
+        return new DataSize(bytes);
+    }
+
+    /**
+     * @param kilobytes the number of kilobytes
+     * @return data size with the given number of kilobytes
+     */
+    public static DataSize ofKilobytes(long kilobytes) {
+        return new DataSize(Math.multiplyExact(kilobytes, 1024L));
+    }
+
+    /**
+     * @param megabytes the number of megabytes
+     * @return data size with the given number of megabytes
+     */
+    public static DataSize ofMegabytes(long megabytes) {
+        return new DataSize(Math.multiplyExact(megabytes, 1024L * 1024));
+    }
+
+    /**
+     * @param gigabytes the number of gigabytes
+     * @return data size with the given number of gigabytes
+     */
+    public static DataSize ofGigabytes(long gigabytes) {
+        return new DataSize(Math.multiplyExact(gigabytes, 1024L * 1024 * 1024));
+    }
+
+    /**
+     * Parses the given text to a data size. The text is a number with an optional unit ({@code B}, {@code KB},
+     * {@code MB}, {@code GB}, {@code TB}; case-insensitive; the trailing {@code B} may be omitted). A number
+     * without unit is interpreted as bytes.
+     *
+     * @param text the text to parse, e.g. {@code 512MB}
+     * @return the data size, or null if the text is not a valid data size
+     */
+    @Nullable
+    public static DataSize parse(String text) {
+        Matcher matcher = DATA_SIZE.matcher(text.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        String unit = matcher.group(2).toUpperCase();
+        int exponent = unit.isEmpty() ? 0 : "BKMGT".indexOf(unit.charAt(0));
+        try {
+            long bytes = Long.parseLong(matcher.group(1));
+            for (int i = 0; i < exponent; ++i) {
+                bytes = Math.multiplyExact(bytes, 1024L);
+            }
+            return new DataSize(bytes);
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the number of bytes
+     */
+    public long toBytes() {
+        return bytes;
+    }
+
+    @Override
+    public int compareTo(DataSize other) {
+        return Long.compare(bytes, other.bytes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof DataSize && bytes == ((DataSize) obj).bytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bytes);
+    }
+
+    /**
+     * @return the size in the largest unit it can be expressed in without fraction, e.g. {@code 512MB}
+     */
+    @Override
+    public String toString() {
+        long amount = bytes;
+        int unit = 0;
+        while (unit < UNITS.length - 1 && amount != 0 && amount % 1024 == 0) {
+            amount /= 1024;
+            ++unit;
+        }
+        return amount + UNITS[unit];
+    }
+}
@@ -0,0 +1,28 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+
+/**
+ * Data size property. The value is parsed once when it is read from the resource;
+ * see {@link DataSize#parse} for the supported format.
+ */
+public class DataSizeProperty extends Property<DataSize> {
+
+    public DataSizeProperty(String path, DataSize defaultValue) {
+        super(path, defaultValue);
+    }
+
+    @Override
+    protected DataSize getFromResource(PropertyResource resource) {
+        // Value is read from file as a String or number, but when it is set later on it is a DataSize
+        Object value = resource.getObject(getPath());
+        if (value instanceof DataSize) {
+            return (DataSize) value;
+        } else if ((value instanceof Integer || value instanceof Long) && ((Number) value).longValue() >= 0) {
+            return DataSize.ofBytes(((Number) value).longValue());
+        } else if (value instanceof String) {
+            return DataSize.parse((String) value);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package ch.jalu.configme.properties;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+/**
+ * Immutable list of {@code double} values, backed by an array so that the values are not boxed.
+ *
+ * @see DoubleListProperty
+ */
+public final class DoubleList extends PrimitiveList<double[]> {
+
+    private DoubleList(double[] values) {
+        super(values, values.length);
+    }
+
+    /**
+     * Creates a list with the given values. The array is copied.
+     *
+     * @param values the values
+     * @return list with the values
+     */
+    public static DoubleList of(double... values) {
+        return new DoubleList(values.clone());
+    }
+
+    /**
+     * Creates a list backed by the given array, which must not be modified afterwards.
+     *
+     * @param values the values
+     * @return list with the values
+     */
+    static DoubleList wrap(double[] values) {
+        return new DoubleList(values);
+    }
+
+    /**
+     * @param index the index of the value to get
+     * @return the value at the given index
+     */
+    public double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param value the value to look for
+     * @return true if the list contains the value, false otherwise
+     */
+    public boolean contains(double value) {
+        for (double v : values) {
+            if (Double.compare(v, value) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return copy of the values as array
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return Arrays.stream(values);
+    }
+}
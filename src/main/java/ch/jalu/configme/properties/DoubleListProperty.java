@@ -0,0 +1,22 @@
+package ch.jalu.configme.properties;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * List property with {@code double} values. The values are converted to an {@link DoubleList} once when they are
+ * read from the resource, so that they can be accessed without boxing.
+ */
+public class DoubleListProperty extends PrimitiveListProperty<DoubleList> {
+
+    public DoubleListProperty(String path, double... defaultValues) {
+        super(path, DoubleList.of(defaultValues));
+    }
+
+    @Override
+    @Nullable
+    protected DoubleList convert(List<?> rawList) {
+        double[] values = toDoubleArray(rawList);
+        return values == null ? null : DoubleList.wrap(values);
+    }
+}
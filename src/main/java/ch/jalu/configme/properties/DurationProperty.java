@@ -0,0 +1,122 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Duration property. The value is parsed once when it is read from the resource. Supported formats are
+ * a sequence of amounts with a unit, such as {@code 30s}, {@code 500ms} or {@code 1h30m} (units: {@code d},
+ * {@code h}, {@code m}, {@code s}, {@code ms}), the ISO-8601 format such as {@code PT30S}, and a plain number,
+ * which is interpreted as seconds.
+ */
+public class DurationProperty extends Property<Duration> {
+
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+)\\s*(ms|d|h|m|s)", Pattern.CASE_INSENSITIVE);
+
+    public DurationProperty(String path, Duration defaultValue) {
+        super(path, defaultValue);
+    }
+
+    @Override
+    protected Duration getFromResource(PropertyResource resource) {
+        // Value is read from file as a String or number, but when it is set later on it is a Duration
+        Object value = resource.getObject(getPath());
+        if (value instanceof Duration) {
+            return (Duration) value;
+        } else if (value instanceof Integer || value instanceof Long) {
+            return Duration.ofSeconds(((Number) value).longValue());
+        } else if (value instanceof String) {
+            return parse((String) value);
+        }
+        return null;
+    }
+
+    /**
+     * Parses the given text to a duration.
+     *
+     * @param text the text to parse, e.g. {@code 1h30m}
+     * @return the duration, or null if the text is not a valid duration
+     */
+    @Nullable
+    public static Duration parse(String text) {
+        String trimmedText = text.trim();
+        if (trimmedText.startsWith("P") || trimmedText.startsWith("p")) {
+            try {
+                return Duration.parse(trimmedText);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+
+        Matcher matcher = DURATION_PART.matcher(trimmedText);
+        Duration duration = Duration.ZERO;
+        int end = 0;
+        while (matcher.find() && matcher.start() == end) {
+            try {
+                long amount = Long.parseLong(matcher.group(1));
+                duration = duration.plus(amount, toUnit(matcher.group(2).toLowerCase()));
+            } catch (NumberFormatException | ArithmeticException e) {
+                return null;
+            }
+            end = matcher.end();
+            while (end < trimmedText.length() && Character.isWhitespace(trimmedText.charAt(end))) {
+                ++end;
+            }
+        }
+        return (end == 0 || end != trimmedText.length()) ? null : duration;
+    }
+
+    /**
+     * Formats the duration in the format supported by {@link #parse}, e.g. {@code 1h30m}.
+     *
+     * @param duration the duration to format
+     * @return the formatted duration
+     */
+    public static String format(Duration duration) {
+        // Negative durations and durations with sub-millisecond precision can only be represented in ISO-8601
+        if (duration.isNegative() || duration.getNano() % 1_000_000 != 0) {
+            return duration.toString();
+        }
+        long millis = duration.toMillis();
+        if (millis == 0) {
+            return "0s";
+        }
+        StringBuilder text = new StringBuilder();
+        millis = appendPart(text, millis, TimeUnit.DAYS.toMillis(1), "d");
+        millis = appendPart(text, millis, TimeUnit.HOURS.toMillis(1), "h");
+        millis = appendPart(text, millis, TimeUnit.MINUTES.toMillis(1), "m");
+        millis = appendPart(text, millis, TimeUnit.SECONDS.toMillis(1), "s");
+        appendPart(text, millis, 1, "ms");
+        return text.toString();
+    }
+
+    private static long appendPart(StringBuilder text, long millis, long unitMillis, String unit) {
+        long amount = millis / unitMillis;
+        if (amount > 0) {
+            text.append(amount).append(unit);
+        }
+        return millis % unitMillis;
+    }
+
+    private static ChronoUnit toUnit(String unit) {
+        switch (unit) {
+            case "ms":
+                return ChronoUnit.MILLIS;
+            case "s":
+                return ChronoUnit.SECONDS;
+            case "m":
+                return ChronoUnit.MINUTES;
+            case "h":
+                return ChronoUnit.HOURS;
+            default:
+                return ChronoUnit.DAYS;
+        }
+    }
+}
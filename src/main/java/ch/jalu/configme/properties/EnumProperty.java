@@ -17,6 +17,13 @@ public class EnumProperty<E extends Enum<E>> extends Property<E> {
         this.clazz = clazz;
     }
 
+    /**
+     * @return the enum class of this property
+     */
+    public Class<E> getEnumClass() {
+        return clazz;
+    }
+
     @Override
     protected E getFromResource(PropertyResource resource) {
         // Value is read from file as a String, but when it is set later on it is an enum
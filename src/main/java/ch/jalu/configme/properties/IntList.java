@@ -0,0 +1,69 @@
+package ch.jalu.configme.properties;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable list of {@code int} values, backed by an array so that the values are not boxed.
+ *
+ * @see IntListProperty
+ */
+public final class IntList extends PrimitiveList<int[]> {
+
+    private IntList(int[] values) {
+        super(values, values.length);
+    }
+
+    /**
+     * Creates a list with the given values. The array is copied.
+     *
+     * @param values the values
+     * @return list with the values
+     */
+    public static IntList of(int... values) {
+        return new IntList(values.clone());
+    }
+
+    /**
+     * Creates a list backed by the given array, which must not be modified afterwards.
+     *
+     * @param values the values
+     * @return list with the values
+     */
+    static IntList wrap(int[] values) {
+        return new IntList(values);
+    }
+
+    /**
+     * @param index the index of the value to get
+     * @return the value at the given index
+     */
+    public int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param value the value to look for
+     * @return true if the list contains the value, false otherwise
+     */
+    public boolean contains(int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return copy of the values as array
+     */
+    public int[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public IntStream stream() {
+        return Arrays.stream(values);
+    }
+}
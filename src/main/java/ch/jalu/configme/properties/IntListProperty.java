@@ -0,0 +1,22 @@
+package ch.jalu.configme.properties;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * List property with {@code int} values. The values are converted to an {@link IntList} once when they are
+ * read from the resource, so that they can be accessed without boxing.
+ */
+public class IntListProperty extends PrimitiveListProperty<IntList> {
+
+    public IntListProperty(String path, int... defaultValues) {
+        super(path, IntList.of(defaultValues));
+    }
+
+    @Override
+    @Nullable
+    protected IntList convert(List<?> rawList) {
+        int[] values = toIntArray(rawList);
+        return values == null ? null : IntList.wrap(values);
+    }
+}
@@ -0,0 +1,69 @@
+package ch.jalu.configme.properties;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable list of {@code long} values, backed by an array so that the values are not boxed.
+ *
+ * @see LongListProperty
+ */
+public final class LongList extends PrimitiveList<long[]> {
+
+    private LongList(long[] values) {
+        super(values, values.length);
+    }
+
+    /**
+     * Creates a list with the given values. The array is copied.
+     *
+     * @param values the values
+     * @return list with the values
+     */
+    public static LongList of(long... values) {
+        return new LongList(values.clone());
+    }
+
+    /**
+     * Creates a list backed by the given array, which must not be modified afterwards.
+     *
+     * @param values the values
+     * @return list with the values
+     */
+    static LongList wrap(long[] values) {
+        return new LongList(values);
+    }
+
+    /**
+     * @param index the index of the value to get
+     * @return the value at the given index
+     */
+    public long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param value the value to look for
+     * @return true if the list contains the value, false otherwise
+     */
+    public boolean contains(long value) {
+        for (long v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return copy of the values as array
+     */
+    public long[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public LongStream stream() {
+        return Arrays.stream(values);
+    }
+}
@@ -0,0 +1,22 @@
+package ch.jalu.configme.properties;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * List property with {@code long} values. The values are converted to an {@link LongList} once when they are
+ * read from the resource, so that they can be accessed without boxing.
+ */
+public class LongListProperty extends PrimitiveListProperty<LongList> {
+
+    public LongListProperty(String path, long... defaultValues) {
+        super(path, LongList.of(defaultValues));
+    }
+
+    @Override
+    @Nullable
+    protected LongList convert(List<?> rawList) {
+        long[] values = toLongArray(rawList);
+        return values == null ? null : LongList.wrap(values);
+    }
+}
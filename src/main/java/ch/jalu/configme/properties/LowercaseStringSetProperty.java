@@ -0,0 +1,50 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Property with a set of lowercase Strings, e.g. for allow or deny lists. The values are lowercased
+ * once when they are read from the resource and are kept in an unmodifiable hash set so that membership
+ * can be checked in constant time; see {@link ch.jalu.configme.SettingsManager#containsIgnoreCase}.
+ * The set keeps the order of the entries in the resource.
+ */
+public class LowercaseStringSetProperty extends Property<Set<String>> {
+
+    public LowercaseStringSetProperty(String path, String... defaultValues) {
+        super(path, toLowercaseSet(defaultValues));
+    }
+
+    @Override
+    protected Set<String> getFromResource(PropertyResource resource) {
+        List<?> rawList = resource.getList(getPath());
+        if (rawList != null) {
+            Set<String> values = new LinkedHashSet<>(rawList.size() * 4 / 3 + 1);
+            for (Object o : rawList) {
+                if (!(o instanceof String)) {
+                    return null;
+                }
+                values.add(((String) o).toLowerCase());
+            }
+            return Collections.unmodifiableSet(values);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isPresent(PropertyResource resource) {
+        return resource.getList(getPath()) != null;
+    }
+
+    private static Set<String> toLowercaseSet(String... values) {
+        Set<String> set = new LinkedHashSet<>();
+        for (String value : values) {
+            set.add(value.toLowerCase());
+        }
+        return Collections.unmodifiableSet(set);
+    }
+}
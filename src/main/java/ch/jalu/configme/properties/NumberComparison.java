@@ -0,0 +1,85 @@
+package ch.jalu.configme.properties;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Exact comparison of numbers of any type with the bounds of {@link PropertyConstraint}s. Integral values are not
+ * converted to double, which cannot represent all long values above 2<sup>53</sup>. As with
+ * {@link Double#compare}, NaN is greater than any bound; unlike it, 0.0 and -0.0 are equal.
+ */
+final class NumberComparison {
+
+    private NumberComparison() {
+    }
+
+    /**
+     * Compares the given number with the given bound.
+     *
+     * @param value the number to compare
+     * @param bound the bound
+     * @return negative, zero or positive if the number is less than, equal to or greater than the bound
+     */
+    static int compare(Number value, long bound) {
+        if (isIntegral(value)) {
+            return Long.compare(value.longValue(), bound);
+        } else if (value instanceof BigInteger) {
+            return ((BigInteger) value).compareTo(BigInteger.valueOf(bound));
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).compareTo(BigDecimal.valueOf(bound));
+        }
+        return compareDoubleWithLong(value.doubleValue(), bound);
+    }
+
+    /**
+     * Compares the given number with the given bound.
+     *
+     * @param value the number to compare
+     * @param bound the bound
+     * @return negative, zero or positive if the number is less than, equal to or greater than the bound
+     */
+    static int compare(Number value, double bound) {
+        if (isIntegral(value)) {
+            return -compareDoubleWithLong(bound, value.longValue());
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            if (Double.isNaN(bound) || bound == Double.POSITIVE_INFINITY) {
+                return -1;
+            } else if (bound == Double.NEGATIVE_INFINITY) {
+                return 1;
+            }
+            BigDecimal decimal = value instanceof BigDecimal
+                ? (BigDecimal) value
+                : new BigDecimal((BigInteger) value);
+            return decimal.compareTo(new BigDecimal(bound));
+        }
+        return compareDoubles(value.doubleValue(), bound);
+    }
+
+    private static boolean isIntegral(Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static int compareDoubleWithLong(double value, long bound) {
+        if (Double.isNaN(value) || value >= 0x1p63) {
+            return 1;
+        } else if (value < -0x1p63) {
+            return -1;
+        }
+        // value is within the range of long, so its integral part can be compared exactly
+        long integralPart = (long) value;
+        if (integralPart != bound) {
+            return Long.compare(integralPart, bound);
+        }
+        // Same integral part: the bound is below 2^53 in magnitude unless the value has no fraction
+        return compareDoubles(value, integralPart);
+    }
+
+    private static int compareDoubles(double value, double bound) {
+        if (value < bound) {
+            return -1;
+        } else if (value > bound) {
+            return 1;
+        }
+        return value == bound ? 0 : Double.compare(value, bound);
+    }
+}
@@ -0,0 +1,33 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Regular expression property. The pattern is compiled once when the value is read from the resource;
+ * a value which is not a valid regular expression is treated as invalid and the default pattern is used.
+ */
+public class PatternProperty extends Property<Pattern> {
+
+    public PatternProperty(String path, String defaultRegex) {
+        super(path, Pattern.compile(defaultRegex));
+    }
+
+    @Override
+    protected Pattern getFromResource(PropertyResource resource) {
+        // Value is read from file as a String, but when it is set later on it is a Pattern
+        Object value = resource.getObject(getPath());
+        if (value instanceof Pattern) {
+            return (Pattern) value;
+        } else if (value instanceof String) {
+            try {
+                return Pattern.compile((String) value);
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
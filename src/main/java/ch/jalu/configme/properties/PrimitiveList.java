@@ -0,0 +1,64 @@
+package ch.jalu.configme.properties;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.BaseStream;
+
+/**
+ * Base class of the immutable lists of primitive values ({@link IntList}, {@link LongList} and {@link DoubleList}),
+ * which are backed by an array so that the values are not boxed.
+ *
+ * @param <A> the array type, e.g. {@code int[]}
+ */
+abstract class PrimitiveList<A> {
+
+    /** The values; never modified. */
+    final A values;
+    private final int size;
+
+    PrimitiveList(A values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * @return number of values in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the list has no values, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return stream of the values
+     */
+    public abstract BaseStream<?, ?> stream();
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj != null && getClass() == obj.getClass()
+            && Objects.deepEquals(values, ((PrimitiveList<?>) obj).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(new Object[]{values});
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Iterator<?> it = stream().iterator(); it.hasNext();) {
+            joiner.add(String.valueOf(it.next()));
+        }
+        return joiner.toString();
+    }
+}
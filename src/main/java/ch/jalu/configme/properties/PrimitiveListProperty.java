@@ -0,0 +1,119 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+
+import javax.annotation.Nullable;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Base class of the list properties with primitive values ({@link IntListProperty}, {@link LongListProperty}
+ * and {@link DoubleListProperty}). The list of the resource is converted once when it is read. If any entry is not
+ * a number, the property's value is invalid; for int and long lists, this is also the case if an entry is not a whole
+ * number or out of the range of the type (e.g. {@code 3.7}, or {@code 3000000000} in an int list).
+ *
+ * @param <L> the list type
+ */
+public abstract class PrimitiveListProperty<L> extends Property<L> {
+
+    /** Smallest double value which is larger than any long: 2^63. */
+    private static final double LONG_RANGE_END = 0x1p63;
+
+    PrimitiveListProperty(String path, L defaultValue) {
+        super(path, defaultValue);
+    }
+
+    @Override
+    @Nullable
+    protected L getFromResource(PropertyResource resource) {
+        List<?> rawList = resource.getList(getPath());
+        return rawList == null ? null : convert(rawList);
+    }
+
+    @Override
+    public boolean isPresent(PropertyResource resource) {
+        return resource.getList(getPath()) != null;
+    }
+
+    /**
+     * Converts the entries of the list from the resource.
+     *
+     * @param rawList the list from the resource
+     * @return the converted list, or null if an entry cannot be converted
+     */
+    @Nullable
+    protected abstract L convert(List<?> rawList);
+
+    @Nullable
+    static int[] toIntArray(List<?> rawList) {
+        int[] values = new int[rawList.size()];
+        int i = 0;
+        for (Object o : rawList) {
+            Long value = toWholeNumber(o, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            if (value == null) {
+                return null;
+            }
+            values[i++] = value.intValue();
+        }
+        return values;
+    }
+
+    @Nullable
+    static long[] toLongArray(List<?> rawList) {
+        long[] values = new long[rawList.size()];
+        int i = 0;
+        for (Object o : rawList) {
+            Long value = toWholeNumber(o, Long.MIN_VALUE, Long.MAX_VALUE);
+            if (value == null) {
+                return null;
+            }
+            values[i++] = value;
+        }
+        return values;
+    }
+
+    @Nullable
+    static double[] toDoubleArray(List<?> rawList) {
+        double[] values = new double[rawList.size()];
+        int i = 0;
+        for (Object o : rawList) {
+            if (!(o instanceof Number)) {
+                return null;
+            }
+            values[i++] = ((Number) o).doubleValue();
+        }
+        return values;
+    }
+
+    /**
+     * Returns the value of the given object if it is a whole number within the given range.
+     *
+     * @param object the object to convert
+     * @param min the minimum value (inclusive)
+     * @param max the maximum value (inclusive)
+     * @return the value, or null if the object is not a whole number in the range
+     */
+    @Nullable
+    private static Long toWholeNumber(Object object, long min, long max) {
+        long value;
+        if (object instanceof Integer || object instanceof Long || object instanceof Short || object instanceof Byte) {
+            value = ((Number) object).longValue();
+        } else if (object instanceof BigInteger) {
+            if (((BigInteger) object).bitLength() >= Long.SIZE) {
+                return null;
+            }
+            value = ((BigInteger) object).longValue();
+        } else if (object instanceof Number) {
+            double doubleValue = ((Number) object).doubleValue();
+            // Also false for NaN and infinity
+            if (doubleValue != Math.rint(doubleValue) || doubleValue < -LONG_RANGE_END
+                || doubleValue >= LONG_RANGE_END) {
+                return null;
+            }
+            value = (long) doubleValue;
+        } else {
+            return null;
+        }
+        return value >= min && value <= max ? value : null;
+    }
+}
@@ -3,6 +3,9 @@ package ch.jalu.configme.properties;
 import ch.jalu.configme.resource.PropertyResource;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -12,6 +15,7 @@ public abstract class Property<T> {
 
     private final String path;
     private final T defaultValue;
+    private volatile List<PropertyConstraint<? super T>> constraints = Collections.emptyList();
 
     protected Property(String path, T defaultValue) {
         Objects.requireNonNull(path);
@@ -29,7 +33,7 @@ public abstract class Property<T> {
      */
     public T getValue(PropertyResource resource) {
         T value = getFromResource(resource);
-        return value == null ? defaultValue : value;
+        return value == null || !checkConstraints(value).isEmpty() ? defaultValue : value;
     }
 
     @Nullable
@@ -54,6 +58,50 @@ public abstract class Property<T> {
         return defaultValue;
     }
 
+    /**
+     * Adds a constraint which values of this property must satisfy. Values from a property resource which violate
+     * a constraint are treated as invalid, i.e. the default value is used instead. Constraints should only be added
+     * when the property is created, e.g. {@code newProperty("port", 8080).addConstraint(range(1, 65535))}.
+     *
+     * @param constraint the constraint to add
+     * @return this property
+     */
+    public Property<T> addConstraint(PropertyConstraint<? super T> constraint) {
+        Objects.requireNonNull(constraint, "constraint");
+        List<PropertyConstraint<? super T>> newConstraints = new ArrayList<>(constraints);
+        newConstraints.add(constraint);
+        constraints = Collections.unmodifiableList(newConstraints);
+        return this;
+    }
+
+    /**
+     * @return the constraints of this property (unmodifiable)
+     */
+    public List<PropertyConstraint<? super T>> getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Checks the given value against all constraints of this property.
+     *
+     * @param value the value to check
+     * @return descriptions of all violations, empty if the value satisfies all constraints
+     */
+    public List<String> checkConstraints(T value) {
+        List<PropertyConstraint<? super T>> constraints = this.constraints;
+        List<String> violations = Collections.emptyList();
+        for (int i = 0; i < constraints.size(); ++i) {
+            String violation = constraints.get(i).check(value);
+            if (violation != null) {
+                if (violations.isEmpty()) {
+                    violations = new ArrayList<>();
+                }
+                violations.add(violation);
+            }
+        }
+        return violations;
+    }
+
     /**
      * Returns the property path.
      *
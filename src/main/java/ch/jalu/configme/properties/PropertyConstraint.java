@@ -0,0 +1,168 @@
+package ch.jalu.configme.properties;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Constraint on the value of a property, e.g. a minimum for a number. Constraints are added to a property with
+ * {@link Property#addConstraint} and are checked whenever a value is read from a property resource: if a value
+ * does not satisfy all constraints of the property, the property's default value is used instead.
+ * <p>
+ * When the configuration is loaded, all violations are collected in the {@link PropertyValues} snapshot, so values
+ * read from a settings manager are never checked again.
+ * <p>
+ * The number constraints compare values exactly: integral values such as longs above 2<sup>53</sup> are not
+ * converted to double for the comparison.
+ *
+ * @param <T> the type of the values that can be checked
+ */
+@FunctionalInterface
+public interface PropertyConstraint<T> {
+
+    /**
+     * Checks the given value.
+     *
+     * @param value the value to check
+     * @return description of the violation (e.g. "must be at least 1"), or null if the value is valid
+     */
+    @Nullable
+    String check(T value);
+
+    /**
+     * Constraint that a number must be at least the given value.
+     *
+     * @param min the minimum (inclusive)
+     * @return the constraint
+     */
+    static PropertyConstraint<Number> min(long min) {
+        return value -> NumberComparison.compare(value, min) < 0 ? "must be at least " + min : null;
+    }
+
+    /**
+     * Constraint that a number must be at least the given value.
+     *
+     * @param min the minimum (inclusive)
+     * @return the constraint
+     */
+    static PropertyConstraint<Number> min(double min) {
+        return value -> NumberComparison.compare(value, min) < 0 ? "must be at least " + min : null;
+    }
+
+    /**
+     * Constraint that a number must be at most the given value.
+     *
+     * @param max the maximum (inclusive)
+     * @return the constraint
+     */
+    static PropertyConstraint<Number> max(long max) {
+        return value -> NumberComparison.compare(value, max) > 0 ? "must be at most " + max : null;
+    }
+
+    /**
+     * Constraint that a number must be at most the given value.
+     *
+     * @param max the maximum (inclusive)
+     * @return the constraint
+     */
+    static PropertyConstraint<Number> max(double max) {
+        return value -> NumberComparison.compare(value, max) > 0 ? "must be at most " + max : null;
+    }
+
+    /**
+     * Constraint that a number must be within the given range.
+     *
+     * @param min the minimum (inclusive)
+     * @param max the maximum (inclusive)
+     * @return the constraint
+     */
+    static PropertyConstraint<Number> range(long min, long max) {
+        return value -> NumberComparison.compare(value, min) < 0 || NumberComparison.compare(value, max) > 0
+            ? "must be between " + min + " and " + max
+            : null;
+    }
+
+    /**
+     * Constraint that a number must be within the given range.
+     *
+     * @param min the minimum (inclusive)
+     * @param max the maximum (inclusive)
+     * @return the constraint
+     */
+    static PropertyConstraint<Number> range(double min, double max) {
+        return value -> NumberComparison.compare(value, min) < 0 || NumberComparison.compare(value, max) > 0
+            ? "must be between " + min + " and " + max
+            : null;
+    }
+
+    /**
+     * Constraint that a text must not be empty or consist only of whitespace.
+     *
+     * @return the constraint
+     */
+    static PropertyConstraint<CharSequence> notBlank() {
+        return value -> value.toString().trim().isEmpty() ? "must not be blank" : null;
+    }
+
+    /**
+     * Constraint that a text must match the given regular expression entirely.
+     *
+     * @param regex the regular expression
+     * @return the constraint
+     */
+    static PropertyConstraint<CharSequence> matches(String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        return value -> pattern.matcher(value).matches() ? null : "must match '" + regex + "'";
+    }
+
+    /**
+     * Constraint that a text must have a length within the given range.
+     *
+     * @param min the minimum length (inclusive)
+     * @param max the maximum length (inclusive)
+     * @return the constraint
+     */
+    static PropertyConstraint<CharSequence> length(int min, int max) {
+        return value -> value.length() < min || value.length() > max
+            ? "must have a length between " + min + " and " + max
+            : null;
+    }
+
+    /**
+     * Constraint that a collection must not be empty.
+     *
+     * @return the constraint
+     */
+    static PropertyConstraint<Collection<?>> notEmpty() {
+        return value -> value.isEmpty() ? "must not be empty" : null;
+    }
+
+    /**
+     * Constraint that a collection must have a size within the given range.
+     *
+     * @param min the minimum size (inclusive)
+     * @param max the maximum size (inclusive)
+     * @return the constraint
+     */
+    static PropertyConstraint<Collection<?>> size(int min, int max) {
+        return value -> value.size() < min || value.size() > max
+            ? "must have between " + min + " and " + max + " entries"
+            : null;
+    }
+
+    /**
+     * Constraint with a custom predicate.
+     *
+     * @param predicate the predicate valid values satisfy
+     * @param description description of the violation, e.g. "must be a power of two"
+     * @param <T> the value type
+     * @return the constraint
+     */
+    static <T> PropertyConstraint<T> satisfies(Predicate<? super T> predicate, String description) {
+        Objects.requireNonNull(description, "description");
+        return value -> predicate.test(value) ? null : description;
+    }
+
+}
@@ -1,8 +1,10 @@
 package ch.jalu.configme.properties;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Convenience class for instantiating {@link Property} objects. You can use
@@ -87,6 +89,83 @@ public class PropertyInitializer {
         return new LowercaseStringListProperty(path, defaultValues);
     }
 
+    /**
+     * Creates a new property with a set of lowercase Strings.
+     *
+     * @param path the property's path
+     * @param defaultValues the items in the default set
+     * @return the created set property (usable with {@link ch.jalu.configme.SettingsManager#containsIgnoreCase})
+     */
+    public static LowercaseStringSetProperty newLowercaseSetProperty(String path, String... defaultValues) {
+        return new LowercaseStringSetProperty(path, defaultValues);
+    }
+
+    /**
+     * Creates a new integer list property whose values are kept in an array.
+     *
+     * @param path the property's path
+     * @param defaultValues the items in the default list
+     * @return the created list property
+     */
+    public static Property<IntList> newIntListProperty(String path, int... defaultValues) {
+        return new IntListProperty(path, defaultValues);
+    }
+
+    /**
+     * Creates a new long list property whose values are kept in an array.
+     *
+     * @param path the property's path
+     * @param defaultValues the items in the default list
+     * @return the created list property
+     */
+    public static Property<LongList> newLongListProperty(String path, long... defaultValues) {
+        return new LongListProperty(path, defaultValues);
+    }
+
+    /**
+     * Creates a new double list property whose values are kept in an array.
+     *
+     * @param path the property's path
+     * @param defaultValues the items in the default list
+     * @return the created list property
+     */
+    public static Property<DoubleList> newDoubleListProperty(String path, double... defaultValues) {
+        return new DoubleListProperty(path, defaultValues);
+    }
+
+    /**
+     * Creates a new regular expression property.
+     *
+     * @param path the property's path
+     * @param defaultRegex the default regular expression
+     * @return the created property
+     */
+    public static Property<Pattern> newPatternProperty(String path, String defaultRegex) {
+        return new PatternProperty(path, defaultRegex);
+    }
+
+    /**
+     * Creates a new duration property.
+     *
+     * @param path the property's path
+     * @param defaultValue the default value
+     * @return the created property
+     */
+    public static Property<Duration> newDurationProperty(String path, Duration defaultValue) {
+        return new DurationProperty(path, defaultValue);
+    }
+
+    /**
+     * Creates a new data size property.
+     *
+     * @param path the property's path
+     * @param defaultValue the default value
+     * @return the created property
+     */
+    public static Property<DataSize> newDataSizeProperty(String path, DataSize defaultValue) {
+        return new DataSizeProperty(path, defaultValue);
+    }
+
     /**
      * Creates a new map property with string keys.
      *
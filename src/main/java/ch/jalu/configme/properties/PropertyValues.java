@@ -0,0 +1,175 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of the values of a collection of properties, all resolved from a property resource at once.
+ * Properties which are missing or have an invalid value in the resource have their default value in the snapshot;
+ * these properties are kept track of so that they can be reported. A value which violates a constraint of its
+ * property (see {@link Property#addConstraint}) is invalid; all violations are kept by the snapshot, so the values
+ * it returns are not checked again.
+ * <p>
+ * Properties which are not part of the snapshot can be resolved with {@link #getOrResolve}; their values are kept
+ * by the snapshot, so that they are discarded together with it when the values are resolved again.
+ */
+public final class PropertyValues {
+
+    private final Map<Property<?>, Object> values;
+    private final List<Property<?>> missingProperties;
+    private final List<Property<?>> invalidProperties;
+    private final List<ConstraintViolation> constraintViolations;
+    private final Map<Property<?>, Object> otherValues = new ConcurrentHashMap<>();
+
+    private PropertyValues(Map<Property<?>, Object> values, List<Property<?>> missingProperties,
+                           List<Property<?>> invalidProperties, List<ConstraintViolation> constraintViolations) {
+        this.values = values;
+        this.missingProperties = Collections.unmodifiableList(missingProperties);
+        this.invalidProperties = Collections.unmodifiableList(invalidProperties);
+        this.constraintViolations = Collections.unmodifiableList(constraintViolations);
+    }
+
+    /**
+     * Resolves the values of the given properties from the resource.
+     *
+     * @param resource the property resource to read from
+     * @param properties the properties to resolve
+     * @return snapshot with the values of the properties
+     */
+    public static PropertyValues resolve(PropertyResource resource, Collection<? extends Property<?>> properties) {
+        Map<Property<?>, Object> values = new IdentityHashMap<>(properties.size());
+        List<Property<?>> missingProperties = new ArrayList<>();
+        List<Property<?>> invalidProperties = new ArrayList<>();
+        List<ConstraintViolation> constraintViolations = new ArrayList<>();
+        for (Property<?> property : properties) {
+            values.put(property,
+                resolveValue(resource, property, missingProperties, invalidProperties, constraintViolations));
+        }
+        return new PropertyValues(values, missingProperties, invalidProperties, constraintViolations);
+    }
+
+    /**
+     * Returns the value of the given property.
+     *
+     * @param property the property to get the value for
+     * @param <T> the property's type
+     * @return the property's value, or null if the property is not part of this snapshot
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Property<T> property) {
+        return (T) values.get(property);
+    }
+
+    /**
+     * Returns the value of the given property. If the property is not part of this snapshot, its value is resolved
+     * from the resource on the first call and is then kept by this snapshot.
+     *
+     * @param property the property to get the value for
+     * @param resource the property resource to resolve properties which are not part of the snapshot from
+     * @param <T> the property's type
+     * @return the property's value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrResolve(Property<T> property, PropertyResource resource) {
+        T value = (T) values.get(property);
+        if (value == null) {
+            value = (T) otherValues.computeIfAbsent(property, p -> p.getValue(resource));
+        }
+        return value;
+    }
+
+    /**
+     * @param property the property to check
+     * @return true if the snapshot has a value for the property, false otherwise
+     */
+    public boolean contains(Property<?> property) {
+        return values.containsKey(property);
+    }
+
+    /**
+     * @return properties whose path does not exist in the resource (unmodifiable)
+     */
+    public List<Property<?>> getMissingProperties() {
+        return missingProperties;
+    }
+
+    /**
+     * @return properties whose path exists in the resource but whose value could not be used (unmodifiable)
+     */
+    public List<Property<?>> getInvalidProperties() {
+        return invalidProperties;
+    }
+
+    /**
+     * @return violations of the properties' constraints by values in the resource (unmodifiable). The properties
+     *         of these violations are also part of {@link #getInvalidProperties}.
+     */
+    public List<ConstraintViolation> getConstraintViolations() {
+        return constraintViolations;
+    }
+
+    /**
+     * Returns a new snapshot in which the properties affected by a change at the given path have been resolved
+     * again. These are the properties at the path itself as well as those at a parent or child path.
+     *
+     * @param resource the property resource to read from
+     * @param path the path that was modified
+     * @return new snapshot
+     */
+    public PropertyValues withUpdatedPath(PropertyResource resource, String path) {
+        Map<Property<?>, Object> newValues = new IdentityHashMap<>(values);
+        List<Property<?>> newMissingProperties = new ArrayList<>(missingProperties);
+        List<Property<?>> newInvalidProperties = new ArrayList<>(invalidProperties);
+        List<ConstraintViolation> newConstraintViolations = new ArrayList<>(constraintViolations);
+        for (Property<?> property : values.keySet()) {
+            if (isAffectedByPath(property.getPath(), path)) {
+                newMissingProperties.remove(property);
+                newInvalidProperties.remove(property);
+                newConstraintViolations.removeIf(violation -> violation.getProperty() == property);
+                newValues.put(property, resolveValue(resource, property, newMissingProperties, newInvalidProperties,
+                    newConstraintViolations));
+            }
+        }
+        return new PropertyValues(newValues, newMissingProperties, newInvalidProperties, newConstraintViolations);
+    }
+
+    private static <T> Object resolveValue(PropertyResource resource, Property<T> property,
+                                           List<Property<?>> missingProperties, List<Property<?>> invalidProperties,
+                                           List<ConstraintViolation> constraintViolations) {
+        T value = property.getFromResource(resource);
+        if (value == null) {
+            if (resource.contains(property.getPath())) {
+                invalidProperties.add(property);
+            } else {
+                missingProperties.add(property);
+            }
+            return property.getDefaultValue();
+        }
+        if (!property.getConstraints().isEmpty()) {
+            List<String> violations = property.checkConstraints(value);
+            if (!violations.isEmpty()) {
+                violations.forEach(violation -> constraintViolations.add(
+                    new ConstraintViolation(property, value, violation)));
+                invalidProperties.add(property);
+                return property.getDefaultValue();
+            }
+        }
+        return value;
+    }
+
+    private static boolean isAffectedByPath(String propertyPath, String modifiedPath) {
+        return propertyPath.equals(modifiedPath)
+            || propertyPath.isEmpty() || modifiedPath.isEmpty()
+            || propertyPath.startsWith(modifiedPath + ".")
+            || modifiedPath.startsWith(propertyPath + ".");
+    }
+}
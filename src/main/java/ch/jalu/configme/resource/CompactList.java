@@ -0,0 +1,41 @@
+package ch.jalu.configme.resource;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list backed by an array of the exact size.
+ *
+ * @see CompactYamlConstructor
+ */
+final class CompactList extends AbstractList<Object> implements RandomAccess {
+
+    static final CompactList EMPTY = new CompactList(new Object[0]);
+
+    private final Object[] elements;
+
+    private CompactList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Creates an immutable copy of the given list.
+     *
+     * @param list the list to copy
+     * @return compact list with the same elements
+     */
+    static CompactList copyOf(List<?> list) {
+        return list.isEmpty() ? EMPTY : new CompactList(list.toArray());
+    }
+
+    @Override
+    public Object get(int index) {
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+}
@@ -0,0 +1,186 @@
+package ch.jalu.configme.resource;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable map which keeps its keys and values in two arrays, in order of insertion. Small maps are searched
+ * linearly; larger maps additionally have an open addressing hash table with the index of each key.
+ * Compared to a {@link java.util.HashMap}, no entry object is created per key.
+ *
+ * @see CompactYamlConstructor
+ */
+final class CompactMap extends AbstractMap<Object, Object> {
+
+    static final CompactMap EMPTY = new CompactMap(new Object[0], new Object[0]);
+
+    /** Maps with more entries than this have a hash table. */
+    private static final int HASH_THRESHOLD = 8;
+
+    private final Object[] keys;
+    private final Object[] values;
+    /** Index + 1 of the key in {@link #keys} at the position of its hash, 0 for empty slots. Null for small maps. */
+    @Nullable
+    private final int[] hashTable;
+
+    private CompactMap(Object[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.hashTable = keys.length > HASH_THRESHOLD ? createHashTable(keys) : null;
+    }
+
+    /**
+     * Creates an immutable copy of the given map.
+     *
+     * @param map the map to copy
+     * @return compact map with the same entries
+     */
+    static CompactMap copyOf(Map<?, ?> map) {
+        if (map.isEmpty()) {
+            return EMPTY;
+        }
+        Object[] keys = new Object[map.size()];
+        Object[] values = new Object[map.size()];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            ++i;
+        }
+        return new CompactMap(keys, values);
+    }
+
+    /**
+     * Returns a map with the same entries as this map, except for the given key. The arrays of this map are copied,
+     * but the values are shared with this map.
+     *
+     * @param key the key to set
+     * @param value the value to associate with the key, or null to remove the key
+     * @return map with the given entry (this map if it already has the given value for the key)
+     */
+    CompactMap with(Object key, @Nullable Object value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            if (value == values[index]) {
+                return this;
+            } else if (value == null) {
+                Object[] newKeys = new Object[keys.length - 1];
+                Object[] newValues = new Object[values.length - 1];
+                System.arraycopy(keys, 0, newKeys, 0, index);
+                System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+                System.arraycopy(values, 0, newValues, 0, index);
+                System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+                return newKeys.length == 0 ? EMPTY : new CompactMap(newKeys, newValues);
+            }
+            Object[] newValues = values.clone();
+            newValues[index] = value;
+            return new CompactMap(keys, newValues);
+        } else if (value == null) {
+            return this;
+        }
+        Object[] newKeys = new Object[keys.length + 1];
+        Object[] newValues = new Object[values.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, keys.length);
+        System.arraycopy(values, 0, newValues, 0, values.length);
+        newKeys[keys.length] = key;
+        newValues[values.length] = value;
+        return new CompactMap(newKeys, newValues);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        return new AbstractSet<Entry<Object, Object>>() {
+            @Override
+            public Iterator<Entry<Object, Object>> iterator() {
+                return new Iterator<Entry<Object, Object>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    public Entry<Object, Object> next() {
+                        if (index >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<Object, Object> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                        ++index;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    private int indexOf(@Nullable Object key) {
+        if (key == null) {
+            return -1;
+        } else if (hashTable == null) {
+            for (int i = 0; i < keys.length; ++i) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = hashTable.length - 1;
+        for (int slot = spread(key.hashCode()) & mask; hashTable[slot] != 0; slot = (slot + 1) & mask) {
+            int index = hashTable[slot] - 1;
+            if (key.equals(keys[index])) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] createHashTable(Object[] keys) {
+        // Table size is a power of two with a load factor of at most 0.5
+        int size = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+        int[] table = new int[size];
+        int mask = size - 1;
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] == null) {
+                continue;
+            }
+            int slot = spread(keys[i].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,47 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.utils.StringInterner;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.Node;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SnakeYAML constructor which creates a compact, immutable tree: maps and lists are converted to array-based
+ * immutable collections as soon as they have been constructed. Optionally, strings are deduplicated with a
+ * {@link StringInterner}.
+ *
+ * @see CompactYamlFileReader
+ */
+public class CompactYamlConstructor extends Constructor {
+
+    @Nullable
+    private final StringInterner interner;
+
+    /**
+     * Constructor.
+     *
+     * @param interner the interner to deduplicate strings with, or null to not deduplicate strings
+     */
+    public CompactYamlConstructor(@Nullable StringInterner interner) {
+        this.interner = interner;
+    }
+
+    @Override
+    protected Object constructObject(Node node) {
+        Object object = super.constructObject(node);
+        if (object instanceof String) {
+            return interner == null ? object : interner.intern((String) object);
+        } else if (node.isTwoStepsConstruction()) {
+            // Recursive structure: the collection is only filled later on, so it cannot be copied here
+            return object;
+        } else if (object instanceof Map<?, ?>) {
+            return CompactMap.copyOf((Map<?, ?>) object);
+        } else if (object instanceof List<?>) {
+            return CompactList.copyOf((List<?>) object);
+        }
+        return object;
+    }
+}
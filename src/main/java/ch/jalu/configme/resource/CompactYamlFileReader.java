@@ -0,0 +1,41 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.utils.StringInterner;
+import org.yaml.snakeyaml.Yaml;
+
+import javax.annotation.Nullable;
+import java.io.File;
+
+/**
+ * YAML file reader which keeps the loaded values in a compact, immutable tree (see {@link CompactYamlConstructor}),
+ * which uses considerably less memory than the maps and lists created by SnakeYAML by default.
+ * <p>
+ * Values can be set as with {@link YamlFileReader}: the sections along the path are copied to mutable maps.
+ * However, maps and lists returned by this reader cannot be modified.
+ */
+public class CompactYamlFileReader extends YamlFileReader {
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to load
+     */
+    public CompactYamlFileReader(File file) {
+        this(file, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to load
+     * @param stringInterner the interner to deduplicate strings with, or null to not deduplicate
+     */
+    public CompactYamlFileReader(File file, @Nullable StringInterner stringInterner) {
+        super(file, stringInterner);
+    }
+
+    @Override
+    protected Yaml createYaml(@Nullable StringInterner stringInterner) {
+        return new Yaml(new CompactYamlConstructor(stringInterner));
+    }
+}
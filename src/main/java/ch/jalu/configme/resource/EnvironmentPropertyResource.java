@@ -0,0 +1,303 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.utils.PathUtils;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Property resource with the values of environment variables and system properties ({@code -Dkey=value}) which
+ * correspond to the paths of known properties. Typically used as the top layer of a {@link LayeredPropertyResource}
+ * so that the values of a configuration file can be overridden, e.g. in a container.
+ * <p>
+ * The name of the environment variable and system property for each property path is determined by a naming scheme;
+ * see {@link #environmentVariableNaming} and {@link #systemPropertyNaming} for the default schemes. If both are set,
+ * the system property takes precedence. The values are looked up once when the resource is loaded or reloaded.
+ * <p>
+ * Values are converted according to the type of the property: the text is used as is for String and enum properties,
+ * Integer properties only accept decimal numbers, and the values of Boolean properties and of lists are interpreted
+ * like in a YAML file, e.g. {@code yes} is true and {@code [a, b]} is a list (whose entries are Strings for a String
+ * list). The values of other properties are interpreted like YAML, too; only standard YAML types are constructed (no
+ * arbitrary classes by tags such as {@code !!java.io.File}), and if the property cannot use the value interpreted
+ * this way, the plain string is used instead.
+ * <p>
+ * Values set with {@link #setValue} are only kept in memory until the next reload;
+ * {@link #exportProperties} does nothing as the environment cannot be written to.
+ */
+public class EnvironmentPropertyResource implements PropertyResource {
+
+    private final List<Property<?>> properties;
+    private final Function<String, String> environmentVariableNaming;
+    private final Function<String, String> systemPropertyNaming;
+    private final Function<String, String> environment;
+    private final Function<String, String> systemProperties;
+    private final ScalarSchema schema;
+    /** Values by path as nested maps. Never modified once assigned, so that it can be read without locking. */
+    private volatile Map<String, Object> root = new LinkedHashMap<>();
+
+    /**
+     * Constructor. Uses the default naming schemes with the given prefix: for a prefix {@code app} and a property
+     * path {@code server.maxPlayers}, the environment variable {@code APP_SERVER_MAX_PLAYERS} and the system property
+     * {@code app.server.maxPlayers} are looked up.
+     *
+     * @param configurationData the configuration data whose properties should be looked up
+     * @param prefix the prefix of the environment variables and system properties
+     */
+    public EnvironmentPropertyResource(ConfigurationData configurationData, String prefix) {
+        this(configurationData.getProperties(), environmentVariableNaming(prefix), systemPropertyNaming(prefix),
+            System::getenv, System::getProperty);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param properties the properties to look up
+     * @param environmentVariableNaming function returning the environment variable name for a property path
+     * @param systemPropertyNaming function returning the system property name for a property path
+     * @param environment function returning the value of an environment variable (e.g. {@code System::getenv})
+     * @param systemProperties function returning the value of a system property (e.g. {@code System::getProperty})
+     */
+    public EnvironmentPropertyResource(Collection<? extends Property<?>> properties,
+                                       Function<String, String> environmentVariableNaming,
+                                       Function<String, String> systemPropertyNaming,
+                                       Function<String, String> environment,
+                                       Function<String, String> systemProperties) {
+        this.properties = Collections.unmodifiableList(new ArrayList<>(properties));
+        this.environmentVariableNaming = environmentVariableNaming;
+        this.systemPropertyNaming = systemPropertyNaming;
+        this.environment = environment;
+        this.systemProperties = systemProperties;
+        this.schema = new ScalarSchema(this.properties);
+        reload();
+    }
+
+    /**
+     * Returns the default naming scheme for environment variables: the path is converted to upper case, with dots
+     * and camel case boundaries replaced by underscores, and the prefix in front (if not empty). For example, with
+     * prefix {@code app} the path {@code server.maxPlayers} is mapped to {@code APP_SERVER_MAX_PLAYERS}.
+     *
+     * @param prefix the prefix (may be empty)
+     * @return the naming scheme
+     */
+    public static Function<String, String> environmentVariableNaming(String prefix) {
+        return path -> {
+            StringBuilder name = new StringBuilder();
+            if (!prefix.isEmpty()) {
+                name.append(prefix.toUpperCase()).append('_');
+            }
+            char previous = '.';
+            for (char c : path.toCharArray()) {
+                if (c == '.' || c == '-') {
+                    name.append('_');
+                } else {
+                    if (Character.isUpperCase(c) && Character.isLowerCase(previous)) {
+                        name.append('_');
+                    }
+                    name.append(Character.toUpperCase(c));
+                }
+                previous = c;
+            }
+            return name.toString();
+        };
+    }
+
+    /**
+     * Returns the default naming scheme for system properties: the path with the prefix and a dot in front
+     * (if the prefix is not empty). For example, with prefix {@code app} the path {@code server.maxPlayers}
+     * is mapped to {@code app.server.maxPlayers}.
+     *
+     * @param prefix the prefix (may be empty)
+     * @return the naming scheme
+     */
+    public static Function<String, String> systemPropertyNaming(String prefix) {
+        return prefix.isEmpty() ? path -> path : path -> prefix + "." + path;
+    }
+
+    @Override
+    public Object getObject(String path) {
+        Map<String, Object> root = this.root;
+        if (path.isEmpty()) {
+            return root;
+        }
+        Object node = root;
+        for (String key : PathUtils.splitPath(path)) {
+            if (!(node instanceof Map<?, ?>)) {
+                return null;
+            }
+            node = ((Map<?, ?>) node).get(key);
+        }
+        return node;
+    }
+
+    @Override
+    public String getString(String path) {
+        return getTypedObject(path, String.class);
+    }
+
+    @Override
+    public Integer getInt(String path) {
+        Number n = getTypedObject(path, Number.class);
+        return (n == null)
+            ? null
+            : n.intValue();
+    }
+
+    @Override
+    public Double getDouble(String path) {
+        Number n = getTypedObject(path, Number.class);
+        return (n == null)
+            ? null
+            : n.doubleValue();
+    }
+
+    @Override
+    public Boolean getBoolean(String path) {
+        return getTypedObject(path, Boolean.class);
+    }
+
+    @Override
+    public List<?> getList(String path) {
+        return getTypedObject(path, List.class);
+    }
+
+    @Override
+    public Map<?, ?> getMap(String path) {
+        return getTypedObject(path, Map.class);
+    }
+
+    @Override
+    public boolean contains(String path) {
+        return getObject(path) != null;
+    }
+
+    @Override
+    public synchronized void setValue(String path, @Nullable Object value) {
+        Map<String, Object> newRoot = new LinkedHashMap<>(root);
+        setValue(newRoot, path, value, true);
+        root = newRoot;
+    }
+
+    /**
+     * Looks up the environment variables and system properties of all properties again.
+     */
+    @Override
+    public synchronized void reload() {
+        Map<String, Object> newRoot = new LinkedHashMap<>();
+        Map<Property<?>, String> values = new LinkedHashMap<>();
+        Yaml yaml = new Yaml(new SafeConstructor());
+        for (Property<?> property : properties) {
+            String path = property.getPath();
+            String value = path.isEmpty() ? null : lookUp(path);
+            if (value != null) {
+                values.put(property, value);
+                setValue(newRoot, path, parseValue(yaml, path, value), false);
+            }
+        }
+
+        // Use the plain string for properties which cannot use the parsed value
+        PropertyResource parsedValues = new InMemoryResource(newRoot);
+        for (Map.Entry<Property<?>, String> entry : values.entrySet()) {
+            if (!entry.getKey().isPresent(parsedValues)) {
+                setValue(newRoot, entry.getKey().getPath(), entry.getValue(), false);
+            }
+        }
+        root = newRoot;
+    }
+
+    @Override
+    public void exportProperties(ConfigurationData configurationData) {
+        // nothing to do: environment variables and system properties cannot be persisted
+    }
+
+    @Nullable
+    private String lookUp(String path) {
+        String value = systemProperties.apply(systemPropertyNaming.apply(path));
+        return value == null ? environment.apply(environmentVariableNaming.apply(path)) : value;
+    }
+
+    @Nullable
+    private <T> T getTypedObject(String path, Class<T> clazz) {
+        Object value = getObject(path);
+        return clazz.isInstance(value) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * Converts the text of an environment variable or system property to a value for the property at the given path.
+     *
+     * @param yaml the YAML instance to interpret values with
+     * @param path the path of the property
+     * @param value the text to convert
+     * @return the value to use for the property
+     */
+    private Object parseValue(Yaml yaml, String path, String value) {
+        Class<?> scalarType = schema.getScalarType(path);
+        if (scalarType == Integer.class) {
+            try {
+                return Integer.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                return value;
+            }
+        } else if (scalarType != null && scalarType != Boolean.class) {
+            return value; // String or enum
+        }
+
+        Object parsedValue;
+        try {
+            parsedValue = yaml.load(value);
+        } catch (YAMLException e) {
+            return value;
+        }
+        Class<?> elementType = schema.getElementType(path);
+        if (scalarType == Boolean.class) {
+            return parsedValue instanceof Boolean ? parsedValue : value;
+        } else if (elementType != null) {
+            if (parsedValue instanceof List<?>) {
+                List<Object> list = new ArrayList<>((List<?>) parsedValue);
+                list.replaceAll(entry -> ScalarSchema.convert(entry, elementType));
+                return list;
+            }
+            return value;
+        }
+        return parsedValue == null ? value : parsedValue;
+    }
+
+    /**
+     * Sets the value at the given path in the nested maps.
+     *
+     * @param root the root map
+     * @param path the path to set the value at
+     * @param value the value to set, or null to remove the value
+     * @param copyMaps whether the maps on the path should be replaced with copies (if the maps may be in use)
+     */
+    @SuppressWarnings("unchecked")
+    private static void setValue(Map<String, Object> root, String path, @Nullable Object value, boolean copyMaps) {
+        Map<String, Object> node = root;
+        String[] keys = PathUtils.splitPath(path);
+        for (int i = 0; i < keys.length - 1; ++i) {
+            Object child = node.get(keys[i]);
+            if (!(child instanceof Map<?, ?>)) {
+                child = new LinkedHashMap<>();
+            } else if (copyMaps) {
+                child = new LinkedHashMap<>((Map<String, Object>) child);
+            }
+            node.put(keys[i], child);
+            node = (Map<String, Object>) child;
+        }
+        if (value == null) {
+            node.remove(keys[keys.length - 1]);
+        } else {
+            node.put(keys[keys.length - 1], value);
+        }
+    }
+}
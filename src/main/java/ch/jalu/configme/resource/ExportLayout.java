@@ -0,0 +1,97 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.PathNode;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.resource.PropertyPathTraverser.PathElement;
+import ch.jalu.configme.utils.PathUtils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Layout of the exported properties of a {@link ConfigurationData} instance: contains the path elements
+ * (indentation, name and comments) of all sections and properties. As the properties of configuration data do not
+ * change, the layout can be computed once and be reused for every export.
+ *
+ * @see PropertyPathTraverser
+ */
+public class ExportLayout {
+
+    private final ConfigurationData configurationData;
+    private final Map<PathNode, PathElement> elementsByNode = new IdentityHashMap<>();
+    /** Path elements from the top-level section to the property itself, for all known properties. */
+    private final Map<Property<?>, PathElement[]> elementsByProperty = new IdentityHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param configurationData the configuration data to compute the layout for
+     */
+    public ExportLayout(ConfigurationData configurationData) {
+        this.configurationData = configurationData;
+        List<PathElement> parents = new ArrayList<>();
+        for (PathNode child : configurationData.getRootNode().getChildren()) {
+            addElements(child, parents);
+        }
+    }
+
+    /**
+     * @return the configuration data this layout was computed for
+     */
+    public ConfigurationData getConfigurationData() {
+        return configurationData;
+    }
+
+    /**
+     * Returns the path elements from the top-level section to the given property. For properties which
+     * are not part of the configuration data (e.g. entries generated for the export of beans), the elements
+     * are created, reusing the elements of known sections.
+     *
+     * @param property the property to get the path elements for
+     * @return the property's path elements (not to be modified)
+     */
+    PathElement[] getPathElements(Property<?> property) {
+        PathElement[] elements = elementsByProperty.get(property);
+        return elements == null ? createPathElements(property.getPath()) : elements;
+    }
+
+    /**
+     * @return the comments for the root path
+     */
+    String[] getRootComments() {
+        return configurationData.getCommentsForSection("");
+    }
+
+    private void addElements(PathNode node, List<PathElement> parents) {
+        PathElement element = new PathElement(node.getDepth() - 1, node.getName(),
+            configurationData.getCommentsForSection(node.getPath()));
+        elementsByNode.put(node, element);
+        parents.add(element);
+        if (node.getProperty() != null) {
+            elementsByProperty.put(node.getProperty(), parents.toArray(new PathElement[parents.size()]));
+        }
+        for (PathNode child : node.getChildren()) {
+            addElements(child, parents);
+        }
+        parents.remove(parents.size() - 1);
+    }
+
+    private PathElement[] createPathElements(String path) {
+        String[] names = PathUtils.splitPath(path);
+        PathElement[] elements = new PathElement[names.length];
+        PathNode node = configurationData.getRootNode();
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < names.length; ++i) {
+            prefix.append(names[i]);
+            node = (node == null) ? null : node.getChild(names[i]);
+            elements[i] = (node == null)
+                ? new PathElement(i, names[i], configurationData.getCommentsForSection(prefix.toString()))
+                : elementsByNode.get(node);
+            prefix.append('.');
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,105 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.utils.StringInterner;
+import ch.jalu.configme.utils.Utils;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * YAML file reader which loads files in the format written by {@link YamlFileResource} with a specialized parser,
+ * which is considerably faster than the general SnakeYAML parser for large files. Files with any YAML syntax that
+ * the exporter does not write (e.g. anchors, flow collections or multi-line strings) are loaded with SnakeYAML.
+ * Without configuration data, the loaded values are the same either way.
+ * <p>
+ * If configuration data is given, the values at the paths of the known properties are converted to the type of the
+ * property (Integer, Boolean, String, enum or String list) where possible: e.g. {@code name: 1234} is the String
+ * "1234" for a String property, which is therefore valid, whereas SnakeYAML constructs an Integer which the property
+ * cannot use. The specialized parser converts the values while parsing and values loaded with SnakeYAML are
+ * converted afterwards in the same way (see {@link ScalarSchema#convert}), so the loaded values are also the same
+ * with either parser when configuration data is given.
+ */
+public class FastYamlFileReader extends YamlFileReader {
+
+    @Nullable
+    private final ScalarSchema schema;
+    private long fastLoadCount;
+    private long fallbackLoadCount;
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to load
+     */
+    public FastYamlFileReader(File file) {
+        this(file, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to load
+     * @param stringInterner the interner to deduplicate strings with, or null to not deduplicate
+     */
+    public FastYamlFileReader(File file, @Nullable StringInterner stringInterner) {
+        this(file, stringInterner, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to load
+     * @param stringInterner the interner to deduplicate strings with, or null to not deduplicate
+     * @param configurationData the configuration data whose properties determine the type of the values at their
+     *                          paths, or null to resolve all values by their text like SnakeYAML
+     */
+    public FastYamlFileReader(File file, @Nullable StringInterner stringInterner,
+                              @Nullable ConfigurationData configurationData) {
+        super(file, stringInterner, false);
+        this.schema = configurationData == null ? null : new ScalarSchema(configurationData);
+        reload();
+    }
+
+    @Override
+    protected Object load(InputStream inputStream) {
+        byte[] bytes;
+        try {
+            bytes = Utils.readAllBytes(inputStream);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not read YAML", e);
+        }
+
+        String text = Utils.decodeUtf8(bytes);
+        Map<String, Object> root = text == null ? null : YamlSubsetParser.parse(text, getStringInterner(), schema);
+        if (root == null) {
+            ++fallbackLoadCount;
+            Object value = super.load(new ByteArrayInputStream(bytes));
+            if (schema != null) {
+                schema.applyTo(value);
+            }
+            return value;
+        }
+        ++fastLoadCount;
+        return root;
+    }
+
+    /**
+     * @return number of times the file was loaded with the specialized parser
+     */
+    public long getFastLoadCount() {
+        return fastLoadCount;
+    }
+
+    /**
+     * @return number of times the file had to be loaded with SnakeYAML
+     */
+    public long getFallbackLoadCount() {
+        return fallbackLoadCount;
+    }
+}
@@ -0,0 +1,225 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.utils.PathUtils;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Property resource which keeps all values in memory, e.g. for configurations which are generated by the application
+ * or for tests. Values can be looked up and set with the same semantics as {@link YamlFileReader}, but in addition to
+ * the nested maps, the values are kept in a map by their full path so that any path can be looked up directly.
+ * <p>
+ * Maps returned by this resource should not be modified; values should only be changed with {@link #setValue}.
+ * Maps passed to this resource are copied.
+ * As there is no external source, {@link #reload} and {@link #exportProperties} have no effect.
+ */
+public class InMemoryResource implements PropertyResource {
+
+    private final Map<String, Object> root = new LinkedHashMap<>();
+    /** All values (including sections) by their full path. */
+    private final Map<String, Object> valuesByPath = new HashMap<>();
+    /** Whether an object has been set to the root path; see {@link YamlFileReader} for details. */
+    private boolean hasObjectAsRoot = false;
+
+    /**
+     * Creates an empty resource.
+     */
+    public InMemoryResource() {
+    }
+
+    /**
+     * Creates a resource with the given values. Nested maps are copied.
+     *
+     * @param values the values to start with, e.g. {@code {server={port=8080}}}
+     */
+    public InMemoryResource(Map<?, ?> values) {
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            if (entry.getValue() != null) {
+                String key = String.valueOf(entry.getKey());
+                Object value = copyValue(entry.getValue());
+                root.put(key, value);
+                indexValue(key, value);
+            }
+        }
+    }
+
+    /**
+     * Creates a resource with a copy of all values of the given resource.
+     *
+     * @param resource the resource to copy the values from
+     * @return the created resource
+     */
+    public static InMemoryResource copyOf(PropertyResource resource) {
+        Object root = resource.getObject("");
+        if (root instanceof Map<?, ?>) {
+            return new InMemoryResource((Map<?, ?>) root);
+        }
+        InMemoryResource inMemoryResource = new InMemoryResource();
+        if (root != null) {
+            inMemoryResource.setValue("", root);
+        }
+        return inMemoryResource;
+    }
+
+    @Override
+    public synchronized Object getObject(String path) {
+        if (path.isEmpty()) {
+            return hasObjectAsRoot ? root.get("") : root;
+        }
+        return valuesByPath.get(path);
+    }
+
+    @Override
+    public String getString(String path) {
+        return getTypedObject(path, String.class);
+    }
+
+    @Override
+    public Integer getInt(String path) {
+        Number n = getTypedObject(path, Number.class);
+        return (n == null)
+            ? null
+            : n.intValue();
+    }
+
+    @Override
+    public Double getDouble(String path) {
+        Number n = getTypedObject(path, Number.class);
+        return (n == null)
+            ? null
+            : n.doubleValue();
+    }
+
+    @Override
+    public Boolean getBoolean(String path) {
+        return getTypedObject(path, Boolean.class);
+    }
+
+    @Override
+    public List<?> getList(String path) {
+        return getTypedObject(path, List.class);
+    }
+
+    @Override
+    public Map<?, ?> getMap(String path) {
+        return getTypedObject(path, Map.class);
+    }
+
+    @Override
+    public boolean contains(String path) {
+        return getObject(path) != null;
+    }
+
+    @Override
+    public synchronized void setValue(String path, @Nullable Object value) {
+        Objects.requireNonNull(path);
+
+        if (path.isEmpty()) {
+            root.clear();
+            valuesByPath.clear();
+            root.put("", value);
+            hasObjectAsRoot = true;
+        } else if (hasObjectAsRoot) {
+            throw new ConfigMeException("The root path is a bean property; you cannot set values to any subpath. "
+                + "Modify the bean at the root or set a new one instead.");
+        } else {
+            setValueInChildPath(path, value);
+        }
+    }
+
+    @Override
+    public void reload() {
+        // nothing to reload from
+    }
+
+    @Override
+    public void exportProperties(ConfigurationData configurationData) {
+        // nothing to export to
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setValueInChildPath(String path, @Nullable Object value) {
+        String[] keys = PathUtils.splitPath(path);
+        Map<String, Object> node = root;
+        StringBuilder currentPath = new StringBuilder();
+        for (int i = 0; i < keys.length - 1; ++i) {
+            currentPath.append(keys[i]);
+            Object child = node.get(keys[i]);
+            if (child instanceof Map<?, ?>) {
+                node = (Map<String, Object>) child;
+            } else { // child is null or some other value - replace with map
+                Map<String, Object> newEntry = new LinkedHashMap<>();
+                node.put(keys[i], newEntry);
+                valuesByPath.put(currentPath.toString(), newEntry);
+                if (value == null) {
+                    // Same as YamlFileReader: replace the value with an empty map, but nothing else to do
+                    return;
+                }
+                node = newEntry;
+            }
+            currentPath.append('.');
+        }
+
+        String key = keys[keys.length - 1];
+        currentPath.append(key);
+        String fullPath = currentPath.toString();
+        Object previousValue = node.get(key);
+        if (previousValue != null) {
+            removeFromIndex(fullPath, previousValue);
+        }
+        if (value == null) {
+            node.remove(key);
+        } else {
+            // Maps are copied so that the index cannot get out of sync if the given map is modified afterwards
+            Object newValue = copyValue(value);
+            node.put(key, newValue);
+            indexValue(fullPath, newValue);
+        }
+    }
+
+    private void indexValue(String path, Object value) {
+        valuesByPath.put(path, value);
+        if (value instanceof Map<?, ?>) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() != null) {
+                    indexValue(path + "." + entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    private void removeFromIndex(String path, Object value) {
+        valuesByPath.remove(path);
+        if (value instanceof Map<?, ?>) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                removeFromIndex(path + "." + entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Nullable
+    private <T> T getTypedObject(String path, Class<T> clazz) {
+        Object value = getObject(path);
+        return clazz.isInstance(value) ? clazz.cast(value) : null;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Map<?, ?>) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() != null) {
+                    copy.put(String.valueOf(entry.getKey()), copyValue(entry.getValue()));
+                }
+            }
+            return copy;
+        }
+        return value;
+    }
+}
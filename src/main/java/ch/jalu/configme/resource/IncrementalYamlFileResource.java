@@ -0,0 +1,204 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.beanmapper.leafproperties.LeafPropertiesGenerator;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.resource.YamlSource.Entry;
+import ch.jalu.configme.resource.YamlSource.Replacement;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * YAML file resource which saves changes by replacing only the changed values in the file, so that comments and
+ * formatting which were edited in the file are kept and the cost of saving depends on the size of the change
+ * rather than on the size of the file.
+ * <p>
+ * The position of each value in the file is remembered from the last time the file was read or written. When the
+ * properties are exported, each value is compared with the value in the file; changed values which are single-line
+ * scalars in the file (e.g. {@code port: 8080} or {@code name: 'Bob'}) are replaced in place. The file is exported
+ * entirely as with {@link YamlFileResource} if the structure would change: if a property is not in the file, if the
+ * file has values that are not exported, if a changed value is a list or a multi-line value, or if the file was
+ * modified by someone else since it was last read or written.
+ * <p>
+ * Replacements are written into the existing file, so saving is not crash-safe: if the process stops while the
+ * values are being written, the file may be left with only some of the changes or with a truncated end. Use
+ * {@link LockingYamlFileResource}, which replaces the file atomically, if the file must never be left incomplete.
+ */
+public class IncrementalYamlFileResource extends YamlFileResource {
+
+    private final File file;
+    private final SourceTrackingYamlFileReader reader;
+    /** Guards the known file state and the counters; held while the file is read or written. */
+    private final ReentrantLock lock = new ReentrantLock();
+    private long knownLastModified;
+    private long knownLength;
+    private long incrementalSaveCount;
+    private long fullSaveCount;
+
+    /**
+     * Constructor.
+     *
+     * @param file the config file
+     */
+    public IncrementalYamlFileResource(File file) {
+        this(file, new SourceTrackingYamlFileReader(file));
+    }
+
+    private IncrementalYamlFileResource(File file, SourceTrackingYamlFileReader reader) {
+        super(file, reader, new LeafPropertiesGenerator());
+        this.file = file;
+        this.reader = reader;
+        rememberFileState();
+    }
+
+    @Override
+    public void reload() {
+        lock.lock();
+        try {
+            super.reload();
+            rememberFileState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void exportProperties(ConfigurationData configurationData) {
+        lock.lock();
+        try {
+            Map<String, Replacement> replacements = collectReplacements(configurationData);
+            if (replacements == null) {
+                super.exportProperties(configurationData);
+                reader.readSource(file);
+                ++fullSaveCount;
+            } else {
+                if (!replacements.isEmpty()) {
+                    writeReplacements(replacements);
+                }
+                ++incrementalSaveCount;
+            }
+            rememberFileState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of exports which replaced the changed values in the file
+     */
+    public long getIncrementalSaveCount() {
+        lock.lock();
+        try {
+            return incrementalSaveCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of exports which wrote the entire file
+     */
+    public long getFullSaveCount() {
+        lock.lock();
+        try {
+            return fullSaveCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the new text of each value which has changed, or null if the file must be exported entirely.
+     *
+     * @param configurationData the configuration data to export
+     * @return the replacements by path, or null if the changes cannot be written as replacements
+     */
+    @Nullable
+    private Map<String, Replacement> collectReplacements(ConfigurationData configurationData) {
+        YamlSource source = reader.getSource();
+        if (source == null || !source.isPatchable() || isModifiedExternally()) {
+            return null;
+        }
+
+        List<Property<?>> properties = convertPropertiesToExportableTypes(configurationData.getProperties());
+        Set<String> exportedPaths = new HashSet<>();
+        Map<String, Replacement> replacements = new LinkedHashMap<>();
+        for (Property<?> property : properties) {
+            Entry entry = source.getEntry(property.getPath());
+            if (entry == null || !exportedPaths.add(property.getPath())) {
+                return null;
+            }
+            Object value = property.getValue(this);
+            String representation = transformValue(property, value).trim();
+            if (!representation.equals(transformValue(property, entry.value).trim())) {
+                if (!entry.replaceable || representation.indexOf('\n') >= 0) {
+                    return null;
+                }
+                replacements.put(property.getPath(), new Replacement(representation, value));
+            }
+        }
+        return exportedPaths.equals(source.getLeafPaths()) ? replacements : null;
+    }
+
+    private void writeReplacements(Map<String, Replacement> replacements) {
+        YamlSource source = reader.getSource();
+        YamlSource newSource = source.withReplacements(replacements);
+        String oldText = source.getText();
+        String newText = newSource.getText();
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            if (hasSameByteLengths(source, replacements)) {
+                for (Map.Entry<String, Replacement> replacement : replacements.entrySet()) {
+                    Entry entry = source.getEntry(replacement.getKey());
+                    randomAccessFile.seek(YamlSource.utf8Length(oldText, entry.start));
+                    randomAccessFile.write(replacement.getValue().text.getBytes(StandardCharsets.UTF_8));
+                }
+            } else {
+                // Rewrite everything from the first changed value onwards
+                int firstStart = replacements.keySet().stream()
+                    .mapToInt(path -> source.getEntry(path).start)
+                    .min().getAsInt();
+                long offset = YamlSource.utf8Length(oldText, firstStart);
+                byte[] tail = newText.substring(firstStart).getBytes(StandardCharsets.UTF_8);
+                randomAccessFile.seek(offset);
+                randomAccessFile.write(tail);
+                randomAccessFile.setLength(offset + tail.length);
+            }
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not save config to '" + file.getPath() + "'", e);
+        }
+        reader.setSource(newSource);
+    }
+
+    private static boolean hasSameByteLengths(YamlSource source, Map<String, Replacement> replacements) {
+        String text = source.getText();
+        for (Map.Entry<String, Replacement> replacement : replacements.entrySet()) {
+            Entry entry = source.getEntry(replacement.getKey());
+            int oldLength = text.substring(entry.start, entry.end).getBytes(StandardCharsets.UTF_8).length;
+            if (oldLength != replacement.getValue().text.getBytes(StandardCharsets.UTF_8).length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isModifiedExternally() {
+        return file.lastModified() != knownLastModified || file.length() != knownLength;
+    }
+
+    private void rememberFileState() {
+        knownLastModified = file.lastModified();
+        knownLength = file.length();
+    }
+}
@@ -0,0 +1,29 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.utils.StringInterner;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.Node;
+
+/**
+ * SnakeYAML constructor which passes all strings (keys and values) through a {@link StringInterner},
+ * so that equal strings of multiple loaded YAML files share the same instance.
+ */
+public class InterningConstructor extends Constructor {
+
+    private final StringInterner interner;
+
+    /**
+     * Constructor.
+     *
+     * @param interner the interner to deduplicate strings with
+     */
+    public InterningConstructor(StringInterner interner) {
+        this.interner = interner;
+    }
+
+    @Override
+    protected Object constructObject(Node node) {
+        Object object = super.constructObject(node);
+        return object instanceof String ? interner.intern((String) object) : object;
+    }
+}
@@ -0,0 +1,345 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Property resource which stacks multiple property resources ("layers") on top of each other, such as a file
+ * with shared defaults and a file with overrides for a specific environment. A value in a layer overrides the values
+ * of all layers below it; sections present in multiple layers are merged.
+ * <p>
+ * The merged view of all layers is computed when the layers are loaded, so that every path can be looked up
+ * directly. When a single layer is reloaded with {@link #reloadLayer}, only the top-level sections the layer defines
+ * (before or after the reload) are merged again.
+ * <p>
+ * One layer is the one that is written to, by default the top layer: {@link #setValue} modifies this layer, and
+ * {@link #exportProperties} exports this layer. Only the properties which the writable layer defines are exported, so
+ * that values of lower layers (e.g. shared defaults) are not copied into it and changes to the lower layers remain in
+ * effect. Layers above the writable layer (such as an {@link EnvironmentPropertyResource}) only override values and
+ * are never exported.
+ * <p>
+ * The merged view is unmodifiable: values can only be changed through {@link #setValue}.
+ */
+public class LayeredPropertyResource implements PropertyResource {
+
+    private final List<PropertyResource> layers;
+    private final int writableLayerIndex;
+    /** Top-level keys of each layer, as of the last time the layer was merged. */
+    private final List<Set<String>> keysByLayer;
+    private final Map<String, Object> mergedRoot = new LinkedHashMap<>();
+    private final Map<String, Object> unmodifiableMergedRoot = Collections.unmodifiableMap(mergedRoot);
+    /** All paths of the merged view with their value, including sections. */
+    private final Map<String, Object> mergedValues = new HashMap<>();
+    /** Paths in {@link #mergedValues} grouped by top-level key, so that the values of one key can be replaced. */
+    private final Map<String, List<String>> pathsByTopLevelKey = new HashMap<>();
+    /** Configuration data given to the last export, and the part of it which was exported. */
+    @Nullable
+    private ConfigurationData exportSource;
+    @Nullable
+    private ConfigurationData exportedData;
+    /** Guards the merged view; held while the layers are reloaded or exported. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Constructor. The top layer is the writable layer.
+     *
+     * @param layers the layers, ordered from the bottom layer (lowest priority) to the top layer (highest priority)
+     */
+    public LayeredPropertyResource(List<? extends PropertyResource> layers) {
+        this(layers, layers.size() - 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param layers the layers, ordered from the bottom layer (lowest priority) to the top layer (highest priority)
+     * @param writableLayerIndex index of the layer to write to
+     */
+    public LayeredPropertyResource(List<? extends PropertyResource> layers, int writableLayerIndex) {
+        if (layers.isEmpty()) {
+            throw new ConfigMeException("At least one layer is required");
+        } else if (writableLayerIndex < 0 || writableLayerIndex >= layers.size()) {
+            throw new ConfigMeException("Invalid index of writable layer: " + writableLayerIndex);
+        }
+        this.layers = Collections.unmodifiableList(new ArrayList<>(layers));
+        this.writableLayerIndex = writableLayerIndex;
+        this.keysByLayer = new ArrayList<>(layers.size());
+        for (int i = 0; i < layers.size(); ++i) {
+            keysByLayer.add(Collections.emptySet());
+        }
+        mergeAllLayers();
+    }
+
+    /**
+     * @return the layers, from the bottom layer to the top layer (unmodifiable)
+     */
+    public List<PropertyResource> getLayers() {
+        return layers;
+    }
+
+    @Override
+    public Object getObject(String path) {
+        lock.lock();
+        try {
+            return path.isEmpty() ? unmodifiableMergedRoot : mergedValues.get(path);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String getString(String path) {
+        return getTypedObject(path, String.class);
+    }
+
+    @Override
+    public Integer getInt(String path) {
+        Number n = getTypedObject(path, Number.class);
+        return (n == null)
+            ? null
+            : n.intValue();
+    }
+
+    @Override
+    public Double getDouble(String path) {
+        Number n = getTypedObject(path, Number.class);
+        return (n == null)
+            ? null
+            : n.doubleValue();
+    }
+
+    @Override
+    public Boolean getBoolean(String path) {
+        return getTypedObject(path, Boolean.class);
+    }
+
+    @Override
+    public List<?> getList(String path) {
+        return getTypedObject(path, List.class);
+    }
+
+    @Override
+    public Map<?, ?> getMap(String path) {
+        return getTypedObject(path, Map.class);
+    }
+
+    @Override
+    public boolean contains(String path) {
+        return getObject(path) != null;
+    }
+
+    @Override
+    public void setValue(String path, @Nullable Object value) {
+        lock.lock();
+        try {
+            layers.get(writableLayerIndex).setValue(path, value);
+            mergeLayer(writableLayerIndex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reload() {
+        lock.lock();
+        try {
+            for (PropertyResource layer : layers) {
+                layer.reload();
+            }
+            mergeAllLayers();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reloads the layer at the given index and updates the merged view for the sections the layer defines.
+     *
+     * @param index the index of the layer to reload (0 for the bottom layer)
+     */
+    public void reloadLayer(int index) {
+        lock.lock();
+        try {
+            layers.get(index).reload();
+            mergeLayer(index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void exportProperties(ConfigurationData configurationData) {
+        lock.lock();
+        try {
+            PropertyResource writableLayer = layers.get(writableLayerIndex);
+            writableLayer.exportProperties(getPropertiesOfWritableLayer(configurationData));
+            mergeLayer(writableLayerIndex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns configuration data with the properties which the writable layer defines, and the comments of their
+     * sections. Values of lower layers are not exported so that they stay in effect when the lower layers change.
+     *
+     * @param configurationData the configuration data to export
+     * @return configuration data with the properties defined in the writable layer
+     */
+    private ConfigurationData getPropertiesOfWritableLayer(ConfigurationData configurationData) {
+        PropertyResource writableLayer = layers.get(writableLayerIndex);
+        List<Property<?>> properties = new ArrayList<>();
+        Map<String, String[]> sectionComments = new HashMap<>();
+        for (Property<?> property : configurationData.getProperties()) {
+            if (writableLayer.contains(property.getPath())) {
+                properties.add(property);
+                addSectionComments(property.getPath(), configurationData, sectionComments);
+            }
+        }
+        // Reuse the previous instance if possible, so that the export layout computed for it can be reused
+        if (exportSource != configurationData || !exportedData.getProperties().equals(properties)) {
+            exportSource = configurationData;
+            exportedData = new ConfigurationData(properties, sectionComments);
+        }
+        return exportedData;
+    }
+
+    private static void addSectionComments(String path, ConfigurationData configurationData,
+                                           Map<String, String[]> sectionComments) {
+        String section = path;
+        while (!sectionComments.containsKey(section)) {
+            sectionComments.put(section, configurationData.getCommentsForSection(section));
+            if (section.isEmpty()) {
+                return;
+            }
+            int lastDot = section.lastIndexOf('.');
+            section = lastDot < 0 ? "" : section.substring(0, lastDot);
+        }
+    }
+
+    @Nullable
+    private <T> T getTypedObject(String path, Class<T> clazz) {
+        Object value = getObject(path);
+        return clazz.isInstance(value) ? clazz.cast(value) : null;
+    }
+
+    private void mergeAllLayers() {
+        mergedRoot.clear();
+        mergedValues.clear();
+        pathsByTopLevelKey.clear();
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < layers.size(); ++i) {
+            Set<String> layerKeys = getTopLevelKeys(layers.get(i));
+            keysByLayer.set(i, layerKeys);
+            keys.addAll(layerKeys);
+        }
+        mergeKeys(keys);
+    }
+
+    private void mergeLayer(int index) {
+        Set<String> keys = new LinkedHashSet<>(keysByLayer.get(index));
+        Set<String> newKeys = getTopLevelKeys(layers.get(index));
+        keysByLayer.set(index, newKeys);
+        keys.addAll(newKeys);
+        mergeKeys(keys);
+    }
+
+    /**
+     * Merges the values of all layers for the given top-level keys and replaces the values in the merged view.
+     *
+     * @param keys the top-level keys to merge
+     */
+    private void mergeKeys(Collection<String> keys) {
+        List<Map<?, ?>> layerRoots = new ArrayList<>(layers.size());
+        for (PropertyResource layer : layers) {
+            layerRoots.add(getRootMap(layer));
+        }
+
+        for (String key : keys) {
+            List<String> previousPaths = pathsByTopLevelKey.remove(key);
+            if (previousPaths != null) {
+                previousPaths.forEach(mergedValues::remove);
+            }
+
+            Object value = null;
+            for (Map<?, ?> layerRoot : layerRoots) {
+                value = mergeValues(value, layerRoot.get(key));
+            }
+            if (value == null) {
+                mergedRoot.remove(key);
+            } else {
+                mergedRoot.put(key, value);
+                List<String> paths = new ArrayList<>();
+                indexValue(key, value, paths);
+                pathsByTopLevelKey.put(key, paths);
+            }
+        }
+    }
+
+    private void indexValue(String path, Object value, List<String> paths) {
+        mergedValues.put(path, value);
+        paths.add(path);
+        if (value instanceof Map<?, ?>) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                indexValue(path + "." + entry.getKey(), entry.getValue(), paths);
+            }
+        }
+    }
+
+    /**
+     * Merges the value of a higher layer into the value of a lower layer. Maps are merged recursively;
+     * otherwise, the value of the higher layer replaces the lower value. Maps in the result are always
+     * new unmodifiable instances so that the merged view does not share any state with the layers and
+     * cannot be changed by callers.
+     *
+     * @param lower the value of the lower layer (already merged), or null
+     * @param higher the value of the higher layer, or null
+     * @return the merged value
+     */
+    @Nullable
+    private static Object mergeValues(@Nullable Object lower, @Nullable Object higher) {
+        if (higher == null) {
+            return lower;
+        } else if (higher instanceof Map<?, ?>) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            if (lower instanceof Map<?, ?>) {
+                ((Map<?, ?>) lower).forEach((k, v) -> result.put(String.valueOf(k), v));
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) higher).entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                Object mergedValue = mergeValues(result.get(key), entry.getValue());
+                if (mergedValue != null) {
+                    result.put(key, mergedValue);
+                }
+            }
+            return Collections.unmodifiableMap(result);
+        }
+        return higher;
+    }
+
+    private static Map<?, ?> getRootMap(PropertyResource layer) {
+        Object root = layer.getObject("");
+        return root instanceof Map<?, ?> ? (Map<?, ?>) root : Collections.emptyMap();
+    }
+
+    private static Set<String> getTopLevelKeys(PropertyResource layer) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Object key : getRootMap(layer).keySet()) {
+            keys.add(String.valueOf(key));
+        }
+        return keys;
+    }
+}
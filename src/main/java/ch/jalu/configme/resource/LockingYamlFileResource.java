@@ -0,0 +1,212 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.beanmapper.leafproperties.LeafPropertiesGenerator;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * YAML file resource for files which are shared by multiple processes. Reads and writes of the file are coordinated
+ * with a lock on a lock file next to it ({@code config.yml.lock} for {@code config.yml}): the file is read while
+ * holding a shared lock and written while holding an exclusive lock. The file is written to a temporary file which
+ * then replaces the file atomically, so that processes which do not use locks never read a half-written file either.
+ * <p>
+ * To not silently overwrite changes made by another process, the file is not saved if it was changed since it was
+ * last loaded or saved by this resource; {@link #exportProperties} throws an exception instead. Reload the file
+ * to take over the other process's changes before saving again ({@link #isModifiedExternally} tells whether this
+ * is the case).
+ * <p>
+ * File locks are held by the entire JVM, so different resources of the same file in one JVM use the file one after
+ * the other, coordinated with a {@link ReentrantLock} per lock file. The directory of the file must be writable so
+ * that the lock file and the temporary file can be created.
+ */
+public class LockingYamlFileResource extends YamlFileResource {
+
+    /**
+     * Lock per lock file, as the lock on a file cannot be acquired twice in the same JVM. Entries are never removed:
+     * a resource created later for the same file must use the same lock, so the map keeps one small lock for each
+     * file that has been used with this class for the lifetime of the JVM.
+     */
+    private static final ConcurrentMap<Path, ReentrantLock> LOCK_FILE_LOCKS = new ConcurrentHashMap<>();
+
+    private final File file;
+    private final Path lockFile;
+    /** Guards the file and the known file state of all resources of the file in this JVM. */
+    private final ReentrantLock lock;
+    @Nullable
+    private FileState knownFileState;
+
+    /**
+     * Constructor.
+     *
+     * @param file the config file
+     */
+    public LockingYamlFileResource(File file) {
+        this(file, new YamlFileReader(file, null, false), new LeafPropertiesGenerator());
+    }
+
+    /**
+     * Constructor. The reader is reloaded by this constructor, so that the file is read while holding the lock.
+     *
+     * @param file the config file (the YAML file to which properties get exported)
+     * @param reader the reader from which the properties' values are read
+     * @param leafPropertiesGenerator generator of property entries to export bean properties
+     */
+    public LockingYamlFileResource(File file, PropertyReader reader,
+                                   LeafPropertiesGenerator leafPropertiesGenerator) {
+        super(file, reader, leafPropertiesGenerator);
+        this.file = file;
+        this.lockFile = file.toPath().toAbsolutePath().normalize().resolveSibling(file.getName() + ".lock");
+        this.lock = LOCK_FILE_LOCKS.computeIfAbsent(lockFile, f -> new ReentrantLock());
+        reload();
+    }
+
+    @Override
+    public void reload() {
+        runWithLock(true, () -> {
+            LockingYamlFileResource.super.reload();
+            knownFileState = readFileState();
+        });
+    }
+
+    /**
+     * Exports the properties to the file, replacing the file atomically.
+     *
+     * @param configurationData the configuration data to export
+     * @throws ConfigMeException if the file was modified by someone else since it was last loaded or saved
+     */
+    @Override
+    public void exportProperties(ConfigurationData configurationData) {
+        runWithLock(false, () -> {
+            if (!Objects.equals(readFileState(), knownFileState)) {
+                throw new ConfigMeException("Not saving config to '" + file.getPath()
+                    + "': the file was modified by someone else since it was last loaded");
+            }
+            try {
+                writeAndReplaceFile(configurationData);
+            } catch (IOException e) {
+                throw new ConfigMeException("Could not save config to '" + file.getPath() + "'", e);
+            }
+            knownFileState = readFileState();
+        });
+    }
+
+    /**
+     * Returns whether the file was modified by someone else since this resource last loaded or saved it. Saving
+     * is not possible in such a case until the file has been reloaded.
+     *
+     * @return true if the file has been modified externally, false otherwise
+     */
+    public boolean isModifiedExternally() {
+        lock.lock();
+        try {
+            return !Objects.equals(readFileState(), knownFileState);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeAndReplaceFile(ConfigurationData configurationData) throws IOException {
+        Path target = file.toPath();
+        // Only one process writes the temporary file at a time since the exclusive lock is held
+        Path temporaryFile = lockFile.resolveSibling(file.getName() + ".tmp");
+        try {
+            try (FileOutputStream fos = new FileOutputStream(temporaryFile.toFile());
+                 Writer writer = new OutputStreamWriter(fos, StandardCharsets.UTF_8)) {
+                writeProperties(configurationData, writer);
+                writer.flush();
+                fos.getFD().sync();
+            }
+            try {
+                Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void runWithLock(boolean shared, Runnable action) {
+        lock.lock();
+        try (FileChannel channel = FileChannel.open(lockFile,
+                 StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock fileLock = channel.lock(0, Long.MAX_VALUE, shared);
+            try {
+                action.run();
+            } finally {
+                fileLock.release();
+            }
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not lock file '" + lockFile + "'", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    private FileState readFileState() {
+        try {
+            return new FileState(Files.readAttributes(file.toPath(), BasicFileAttributes.class));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not read attributes of file '" + file + "'", e);
+        }
+    }
+
+    /**
+     * Identity, modification time and size of the file, to detect if it was changed. The file key changes whenever
+     * the file is replaced (on systems which provide one); the modification time and the size detect changes which
+     * are written into the file directly.
+     */
+    private static final class FileState {
+
+        @Nullable
+        private final Object fileKey;
+        private final FileTime lastModified;
+        private final long size;
+
+        FileState(BasicFileAttributes attributes) {
+            this.fileKey = attributes.fileKey();
+            this.lastModified = attributes.lastModifiedTime();
+            this.size = attributes.size();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FileState)) {
+                return false;
+            }
+            FileState other = (FileState) obj;
+            return Objects.equals(fileKey, other.fileKey) && lastModified.equals(other.lastModified)
+                && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileKey, lastModified, size);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.utils.PathUtils;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable tree of configuration values. Setting a value with {@link #with} creates a new tree which only copies
+ * the sections along the path of the value; all other sections are shared with the previous tree. Keeping an older
+ * tree is therefore cheap, which allows to take snapshots and to roll back to earlier versions.
+ * <p>
+ * Sections are immutable maps which keep the order of their entries, and lists are immutable as well.
+ * Values are looked up with the same semantics as {@link YamlFileReader}.
+ *
+ * @see VersionedYamlFileReader
+ */
+public final class PersistentTree {
+
+    /** Tree without any values. */
+    public static final PersistentTree EMPTY = new PersistentTree(CompactMap.EMPTY, false);
+
+    private final Object root;
+    /** Whether an object has been set to the root path; see {@link YamlFileReader} for details. */
+    private final boolean hasObjectAsRoot;
+
+    private PersistentTree(Object root, boolean hasObjectAsRoot) {
+        this.root = root;
+        this.hasObjectAsRoot = hasObjectAsRoot;
+    }
+
+    /**
+     * Creates a tree with the values of the given map. Nested maps and lists are copied.
+     *
+     * @param values the values, e.g. as loaded from a YAML file
+     * @return tree with the values
+     */
+    public static PersistentTree of(Map<?, ?> values) {
+        return new PersistentTree(toImmutable(values), false);
+    }
+
+    /**
+     * Returns the value at the given path.
+     *
+     * @param path the path to look up ("" for the root)
+     * @return the value, or null if there is no value at the path
+     */
+    @Nullable
+    public Object getObject(String path) {
+        if (path.isEmpty() || hasObjectAsRoot) {
+            return path.isEmpty() ? root : null;
+        }
+        Object node = root;
+        for (String key : PathUtils.splitPath(path)) {
+            if (!(node instanceof Map<?, ?>)) {
+                return null;
+            }
+            node = ((Map<?, ?>) node).get(key);
+        }
+        return node;
+    }
+
+    /**
+     * Returns a tree with the given value set at the given path. This tree is not modified. Maps along the path
+     * which are not sections are replaced with a section; a null value removes the value at the path.
+     *
+     * @param path the path to set the value at ("" to replace the root with a bean value)
+     * @param value the value to set, or null to remove the value
+     * @return tree with the value
+     */
+    public PersistentTree with(String path, @Nullable Object value) {
+        Objects.requireNonNull(path);
+        if (path.isEmpty()) {
+            return new PersistentTree(toImmutable(value), true);
+        } else if (hasObjectAsRoot) {
+            throw new ConfigMeException("The root path is a bean property; you cannot set values to any subpath. "
+                + "Modify the bean at the root or set a new one instead.");
+        }
+        CompactMap newRoot = setValue((CompactMap) root, PathUtils.splitPath(path), 0, toImmutable(value));
+        return newRoot == root ? this : new PersistentTree(newRoot, false);
+    }
+
+    private static CompactMap setValue(CompactMap node, String[] keys, int index, @Nullable Object value) {
+        String key = keys[index];
+        if (index == keys.length - 1) {
+            return node.with(key, value);
+        }
+        Object child = node.get(key);
+        if (child instanceof CompactMap) {
+            return node.with(key, setValue((CompactMap) child, keys, index + 1, value));
+        } else if (value == null) {
+            // Same as YamlFileReader: replace the value with an empty section, but nothing else to do
+            return node.with(key, CompactMap.EMPTY);
+        }
+        return node.with(key, setValue(CompactMap.EMPTY, keys, index + 1, value));
+    }
+
+    @Nullable
+    private static Object toImmutable(@Nullable Object value) {
+        if (value instanceof CompactMap || value instanceof CompactList) {
+            return value;
+        } else if (value instanceof Map<?, ?>) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() != null) {
+                    copy.put(entry.getKey(), toImmutable(entry.getValue()));
+                }
+            }
+            return CompactMap.copyOf(copy);
+        } else if (value instanceof List<?>) {
+            Object[] elements = ((List<?>) value).toArray();
+            for (int i = 0; i < elements.length; ++i) {
+                elements[i] = toImmutable(elements[i]);
+            }
+            return CompactList.copyOf(Arrays.asList(elements));
+        }
+        return value;
+    }
+}
@@ -2,10 +2,10 @@ package ch.jalu.configme.resource;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.properties.Property;
-import ch.jalu.configme.utils.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -15,16 +15,22 @@ import java.util.List;
  * For example if the property for path {@code config.datasource.mysql.type} was exported and we now
  * encounter the property for path {@code config.datasource.driver.version}, the newly encountered
  * sections are {@code driver} and {@code version}.
+ * <p>
+ * The path elements are taken from an {@link ExportLayout}, which can be reused for multiple exports.
  */
 public class PropertyPathTraverser {
 
-    private final ConfigurationData configurationData;
-    /** Contains all path elements besides the last, e.g. {datasource, mysql} for "datasource.mysql.table". */
-    private List<String> parentPathElements = new ArrayList<>(0);
+    private final ExportLayout exportLayout;
+    /** Contains all path elements of the previous property, e.g. {datasource, mysql, table}. */
+    private PathElement[] previousPathElements = new PathElement[0];
     private boolean isFirstProperty = true;
 
     public PropertyPathTraverser(ConfigurationData configurationData) {
-        this.configurationData = configurationData;
+        this(new ExportLayout(configurationData));
+    }
+
+    public PropertyPathTraverser(ExportLayout exportLayout) {
+        this.exportLayout = exportLayout;
     }
 
     /**
@@ -34,37 +40,40 @@ public class PropertyPathTraverser {
      * @return the new path elements
      */
     public List<PathElement> getPathElements(Property<?> property) {
-        List<String> propertyPath = Arrays.asList(property.getPath().split("\\."));
-        List<String> commonPathParts = CollectionUtils.filterCommonStart(
-            parentPathElements, propertyPath.subList(0, propertyPath.size() - 1));
-        List<String> newPathParts = CollectionUtils.getRange(propertyPath, commonPathParts.size());
-
-        parentPathElements = propertyPath.subList(0, propertyPath.size() - 1);
-
-        int indentationLevel = commonPathParts.size();
-        String prefix = commonPathParts.isEmpty() ? "" : String.join(".", commonPathParts) + ".";
-        return convertToPathElements(indentationLevel, prefix, newPathParts);
-    }
-
-    private List<PathElement> convertToPathElements(int indentation, String prefix, List<String> elements) {
-        List<PathElement> pathElements = new ArrayList<>(elements.size());
-        for (String element : elements) {
-            String[] comments = isFirstProperty ? getCommentsIncludingRoot(prefix + element)
-                : configurationData.getCommentsForSection(prefix + element);
-            pathElements.add(new PathElement(indentation, element, comments));
-            prefix += element + ".";
-            ++indentation;
+        PathElement[] pathElements = exportLayout.getPathElements(property);
+        int commonParents = countCommonParents(previousPathElements, pathElements);
+        previousPathElements = pathElements;
+
+        List<PathElement> newElements = Arrays.asList(pathElements).subList(commonParents, pathElements.length);
+        if (isFirstProperty) {
+            isFirstProperty = false;
+            String[] rootComments = exportLayout.getRootComments();
+            if (rootComments.length > 0 && !newElements.isEmpty()) {
+                newElements = new ArrayList<>(newElements);
+                PathElement first = newElements.get(0);
+                newElements.set(0, new PathElement(first.indentationLevel, first.name,
+                    mergeArrays(rootComments, first.comments)));
+            }
         }
-        return pathElements;
+        return Collections.unmodifiableList(newElements);
     }
 
-    private String[] getCommentsIncludingRoot(String path) {
-        isFirstProperty = false;
-
-        String[] rootComments = configurationData.getCommentsForSection("");
-        String[] sectionComments = configurationData.getCommentsForSection(path);
-        // One or the other array might be empty, but we only do this once so we can ignore performance considerations
-        return mergeArrays(rootComments, sectionComments);
+    /**
+     * Returns the number of path elements, excluding the last one (the property itself), that both arrays have
+     * in common. Elements of known sections are shared, so most elements can be compared by identity.
+     *
+     * @param elements1 the first path elements
+     * @param elements2 the second path elements
+     * @return number of common parent elements
+     */
+    private static int countCommonParents(PathElement[] elements1, PathElement[] elements2) {
+        int maxParents = Math.min(elements1.length, elements2.length) - 1;
+        int i = 0;
+        while (i < maxParents
+            && (elements1[i] == elements2[i] || elements1[i].name.equals(elements2[i].name))) {
+            ++i;
+        }
+        return i;
     }
 
     // http://stackoverflow.com/questions/80476/how-can-i-concatenate-two-arrays-in-java
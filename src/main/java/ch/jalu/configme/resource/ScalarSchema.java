@@ -0,0 +1,132 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.BooleanProperty;
+import ch.jalu.configme.properties.EnumProperty;
+import ch.jalu.configme.properties.IntegerProperty;
+import ch.jalu.configme.properties.LowercaseStringSetProperty;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.StringListProperty;
+import ch.jalu.configme.properties.StringProperty;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expected type of the scalars at the paths of known properties, used to convert loaded scalars to the type the
+ * property needs. {@link YamlSubsetParser} converts the scalars while parsing and the values loaded by SnakeYAML are
+ * converted with {@link #applyTo}; both use {@link #convert}, so the values are the same with either parser.
+ * Only properties of the basic types (Integer, Boolean, String, enums and String lists) are part of the schema.
+ */
+final class ScalarSchema {
+
+    private final Map<String, Class<?>> scalarTypes = new HashMap<>();
+    private final Map<String, Class<?>> elementTypes = new HashMap<>();
+
+    /**
+     * Creates the schema for the properties of the given configuration data.
+     *
+     * @param configurationData the configuration data
+     */
+    ScalarSchema(ConfigurationData configurationData) {
+        this(configurationData.getProperties());
+    }
+
+    /**
+     * Creates the schema for the given properties.
+     *
+     * @param properties the properties
+     */
+    ScalarSchema(Collection<? extends Property<?>> properties) {
+        for (Property<?> property : properties) {
+            String path = property.getPath();
+            if (property instanceof IntegerProperty) {
+                scalarTypes.put(path, Integer.class);
+            } else if (property instanceof BooleanProperty) {
+                scalarTypes.put(path, Boolean.class);
+            } else if (property instanceof StringProperty) {
+                scalarTypes.put(path, String.class);
+            } else if (property instanceof EnumProperty<?>) {
+                scalarTypes.put(path, ((EnumProperty<?>) property).getEnumClass());
+            } else if (property instanceof StringListProperty || property instanceof LowercaseStringSetProperty) {
+                elementTypes.put(path, String.class);
+            }
+        }
+    }
+
+    /**
+     * @param path the path of the scalar
+     * @return the expected type of the scalar at the given path, or null if unknown
+     */
+    @Nullable
+    Class<?> getScalarType(String path) {
+        return scalarTypes.get(path);
+    }
+
+    /**
+     * @param path the path of the sequence
+     * @return the expected type of the entries of the sequence at the given path, or null if unknown
+     */
+    @Nullable
+    Class<?> getElementType(String path) {
+        return elementTypes.get(path);
+    }
+
+    /**
+     * Converts the values at the paths of the schema, as constructed by SnakeYAML, to the expected type with
+     * {@link #convert}. As SnakeYAML does not keep the scalar's text, numbers and booleans are converted to String
+     * with their {@code toString} method (e.g. {@code 0x1F} is "31").
+     *
+     * @param root the root value loaded by SnakeYAML (modified in place)
+     */
+    void applyTo(@Nullable Object root) {
+        if (root instanceof Map<?, ?>) {
+            applyToMapping((Map<?, ?>) root, "");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyToMapping(Map<?, ?> mapping, String parentPath) {
+        for (Map.Entry<?, Object> entry : ((Map<?, Object>) mapping).entrySet()) {
+            if (!(entry.getKey() instanceof String)) {
+                continue;
+            }
+            String path = parentPath.isEmpty() ? (String) entry.getKey() : parentPath + "." + entry.getKey();
+            Object value = entry.getValue();
+            Class<?> scalarType = scalarTypes.get(path);
+            if (value instanceof Map<?, ?>) {
+                applyToMapping((Map<?, ?>) value, path);
+            } else if (value instanceof List<?> && elementTypes.containsKey(path)) {
+                ((List<Object>) value).replaceAll(element -> convert(element, elementTypes.get(path)));
+            } else if (scalarType != null) {
+                entry.setValue(convert(value, scalarType));
+            }
+        }
+    }
+
+    /**
+     * Converts the value to the expected type if it is a number or boolean for a String, or the name of an enum
+     * constant for an enum type. This is the only conversion of values by the schema, whichever parser constructed
+     * the value.
+     *
+     * @param value the value to convert
+     * @param expectedType the expected type
+     * @return the converted value, or the value itself if it is not converted
+     */
+    @Nullable
+    static Object convert(@Nullable Object value, Class<?> expectedType) {
+        if (expectedType == String.class && (value instanceof Number || value instanceof Boolean)) {
+            return value.toString();
+        } else if (expectedType.isEnum() && value instanceof String) {
+            for (Object constant : expectedType.getEnumConstants()) {
+                if (((Enum<?>) constant).name().equalsIgnoreCase((String) value)) {
+                    return constant;
+                }
+            }
+        }
+        return value;
+    }
+}
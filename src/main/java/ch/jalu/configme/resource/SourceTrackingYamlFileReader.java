@@ -0,0 +1,115 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.utils.StringInterner;
+import ch.jalu.configme.utils.Utils;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.Node;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+
+/**
+ * YAML file reader which keeps the {@link YamlSource} of the last parsed file, i.e. the text of the file with the
+ * position of each value.
+ */
+class SourceTrackingYamlFileReader extends YamlFileReader {
+
+    // No initializer: the field is set while the parent constructor loads the file
+    private YamlSource source;
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to load
+     */
+    SourceTrackingYamlFileReader(File file) {
+        super(file);
+    }
+
+    /**
+     * @return the source of the file as of the last time it was read
+     */
+    YamlSource getSource() {
+        return source;
+    }
+
+    /**
+     * Sets the source, e.g. after values of the file have been replaced.
+     *
+     * @param source the new source
+     */
+    void setSource(YamlSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Reads the source from the given file without changing the values of this reader. Used after the file
+     * has been written to.
+     *
+     * @param file the file to read
+     */
+    void readSource(File file) {
+        try (InputStream is = Files.newInputStream(file.toPath())) {
+            new SourceTrackingYaml().load(is);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not read file '" + file + "'", e);
+        }
+    }
+
+    @Override
+    protected Yaml createYaml(@Nullable StringInterner stringInterner) {
+        return new SourceTrackingYaml();
+    }
+
+    /**
+     * YAML instance which composes the node tree of the text before constructing the values from it, so that the
+     * positions of the values are known.
+     */
+    private final class SourceTrackingYaml extends Yaml {
+
+        private final NodeConstructor nodeConstructor;
+
+        SourceTrackingYaml() {
+            this(new NodeConstructor());
+        }
+
+        private SourceTrackingYaml(NodeConstructor nodeConstructor) {
+            super(nodeConstructor);
+            this.nodeConstructor = nodeConstructor;
+        }
+
+        @Override
+        public Object load(InputStream inputStream) {
+            byte[] bytes;
+            try {
+                bytes = Utils.readAllBytes(inputStream);
+            } catch (IOException e) {
+                throw new ConfigMeException("Could not read YAML", e);
+            }
+
+            String text = Utils.decodeUtf8(bytes);
+            if (text == null) {
+                source = YamlSource.unpatchable();
+                return super.load(new ByteArrayInputStream(bytes));
+            }
+            Node rootNode = compose(new StringReader(text));
+            Object root = rootNode == null ? null : nodeConstructor.construct(rootNode);
+            source = YamlSource.create(text, rootNode, root);
+            return root;
+        }
+    }
+
+    private static final class NodeConstructor extends Constructor {
+
+        Object construct(Node node) {
+            return constructDocument(node);
+        }
+    }
+}
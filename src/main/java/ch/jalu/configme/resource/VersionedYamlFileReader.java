@@ -0,0 +1,194 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.utils.StringInterner;
+import org.yaml.snakeyaml.Yaml;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * YAML file reader which keeps the values in a {@link PersistentTree}. Setting a value creates a new version of
+ * the tree which shares all unmodified sections with the previous version, so that a consistent snapshot of all
+ * values can be taken at any time with {@link #getSnapshot} without copying. A number of previous versions is kept
+ * so that recent changes can be {@link #rollback rolled back}.
+ * <p>
+ * Reads are not blocked by writes: they always see a complete version of the tree. Maps and lists returned by
+ * this reader cannot be modified.
+ */
+public class VersionedYamlFileReader implements PropertyReader {
+
+    /** Default number of previous versions to keep. */
+    public static final int DEFAULT_HISTORY_SIZE = 16;
+
+    private final File file;
+    private final int maxHistorySize;
+    @Nullable
+    private final StringInterner stringInterner;
+    private volatile PersistentTree current;
+    /** Previous versions, the most recent one first. */
+    private final Deque<PersistentTree> history = new ArrayDeque<>();
+    /** Guards the history and the publication of new versions; held while the file is reloaded. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Constructor. Keeps {@link #DEFAULT_HISTORY_SIZE} previous versions.
+     *
+     * @param file the file to load
+     */
+    public VersionedYamlFileReader(File file) {
+        this(file, DEFAULT_HISTORY_SIZE, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to load
+     * @param maxHistorySize the number of previous versions to keep (may be 0)
+     * @param stringInterner the interner to deduplicate strings with, or null to not deduplicate
+     */
+    public VersionedYamlFileReader(File file, int maxHistorySize, @Nullable StringInterner stringInterner) {
+        if (maxHistorySize < 0) {
+            throw new ConfigMeException("History size may not be negative, but got " + maxHistorySize);
+        }
+        this.file = file;
+        this.maxHistorySize = maxHistorySize;
+        this.stringInterner = stringInterner;
+        this.current = loadFile();
+    }
+
+    @Override
+    public Object getObject(String path) {
+        return current.getObject(path);
+    }
+
+    @Override
+    public <T> T getTypedObject(String path, Class<T> clazz) {
+        Object value = getObject(path);
+        if (clazz.isInstance(value)) {
+            return clazz.cast(value);
+        }
+        return null;
+    }
+
+    @Override
+    public void set(String path, @Nullable Object value) {
+        lock.lock();
+        try {
+            PersistentTree newVersion = current.with(path, value);
+            if (newVersion != current) {
+                publish(newVersion);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reloads the file. The version before the reload is added to the history.
+     */
+    @Override
+    public void reload() {
+        lock.lock();
+        try {
+            publish(loadFile());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current version of the tree. The snapshot is not affected by any later changes.
+     *
+     * @return the current version
+     */
+    public PersistentTree getSnapshot() {
+        return current;
+    }
+
+    /**
+     * @return the previous versions, the most recent one first
+     */
+    public List<PersistentTree> getHistory() {
+        lock.lock();
+        try {
+            return new ArrayList<>(history);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Makes the given snapshot the current version. The version it replaces is added to the history.
+     *
+     * @param snapshot the snapshot to restore
+     */
+    public void restore(PersistentTree snapshot) {
+        lock.lock();
+        try {
+            publish(snapshot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reverts the last change: the most recent previous version becomes the current version again.
+     *
+     * @return true if a previous version was restored, false if there is no previous version
+     */
+    public boolean rollback() {
+        lock.lock();
+        try {
+            PersistentTree previous = history.pollFirst();
+            if (previous == null) {
+                return false;
+            }
+            current = previous;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates the YAML instance to load the file with.
+     *
+     * @param stringInterner the string interner to use, or null if strings should not be deduplicated
+     * @return the YAML instance
+     */
+    protected Yaml createYaml(@Nullable StringInterner stringInterner) {
+        return YamlFileReader.createDefaultYaml(stringInterner);
+    }
+
+    private PersistentTree loadFile() {
+        Object obj;
+        try (FileInputStream fis = new FileInputStream(file)) {
+            obj = createYaml(stringInterner).load(fis);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not read file '" + file + "'", e);
+        }
+        if (obj != null && !(obj instanceof Map<?, ?>)) {
+            throw new ConfigMeException("Top-level is not a map in '" + file + "'");
+        }
+        return obj == null ? PersistentTree.EMPTY : PersistentTree.of((Map<?, ?>) obj);
+    }
+
+    private void publish(PersistentTree newVersion) {
+        if (maxHistorySize > 0) {
+            history.addFirst(current);
+            if (history.size() > maxHistorySize) {
+                history.removeLast();
+            }
+        }
+        current = newVersion;
+    }
+}
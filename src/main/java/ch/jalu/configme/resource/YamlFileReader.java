@@ -1,12 +1,17 @@
 package ch.jalu.configme.resource;
 
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.utils.PathUtils;
+import ch.jalu.configme.utils.StringInterner;
 import org.yaml.snakeyaml.Yaml;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -16,6 +21,8 @@ import java.util.Objects;
 public class YamlFileReader implements PropertyReader {
 
     private final File file;
+    @Nullable
+    private final StringInterner stringInterner;
     private Map<String, Object> root;
     /**
      * It is possible to map an entire configuration file to one bean property, in which
@@ -38,8 +45,35 @@ public class YamlFileReader implements PropertyReader {
      */
     @SuppressWarnings("unchecked")
     public YamlFileReader(File file) {
+        this(file, null);
+    }
+
+    /**
+     * Constructor. If a string interner is provided, all keys and string values are deduplicated with it when
+     * the file is loaded, which reduces the memory used if many files with a similar structure are loaded.
+     *
+     * @param file the file to load
+     * @param stringInterner the interner to deduplicate strings with (e.g. {@link StringInterner#getShared()}),
+     *                       or null to not deduplicate
+     */
+    public YamlFileReader(File file, @Nullable StringInterner stringInterner) {
+        this(file, stringInterner, true);
+    }
+
+    /**
+     * Constructor for extensions which need to initialize their state before the file is loaded. If the file is not
+     * loaded by this constructor, the extending class must call {@link #reload} in its constructor.
+     *
+     * @param file the file to load
+     * @param stringInterner the interner to deduplicate strings with, or null to not deduplicate
+     * @param loadFile whether the file should be loaded by this constructor
+     */
+    protected YamlFileReader(File file, @Nullable StringInterner stringInterner, boolean loadFile) {
         this.file = file;
-        reload();
+        this.stringInterner = stringInterner;
+        if (loadFile) {
+            reload();
+        }
     }
 
     @Override
@@ -48,8 +82,7 @@ public class YamlFileReader implements PropertyReader {
             return hasObjectAsRoot ? root.get("") : root;
         }
         Object node = root;
-        String[] keys = path.split("\\.");
-        for (String key : keys) {
+        for (String key : PathUtils.splitPath(path)) {
             node = getIfIsMap(key, node);
             if (node == null) {
                 return null;
@@ -72,7 +105,7 @@ public class YamlFileReader implements PropertyReader {
         Objects.requireNonNull(path);
 
         if (path.isEmpty()) {
-            root.clear();
+            root = new HashMap<>();
             root.put("", value);
             hasObjectAsRoot = true;
         } else if (hasObjectAsRoot) {
@@ -85,11 +118,18 @@ public class YamlFileReader implements PropertyReader {
 
     @SuppressWarnings("unchecked")
     private void setValueInChildPath(String path, Object value) {
+        if (isImmutableMap(root)) {
+            root = new LinkedHashMap<>(root);
+        }
         Map<String, Object> node = root;
-        String[] keys = path.split("\\.");
+        String[] keys = PathUtils.splitPath(path);
         for (int i = 0; i < keys.length - 1; ++i) {
             Object child = node.get(keys[i]);
-            if (child instanceof Map<?, ?>) {
+            if (isImmutableMap(child)) { // immutable map (see CompactYamlFileReader) - replace with copy
+                Map<String, Object> copy = new LinkedHashMap<>((Map<String, Object>) child);
+                node.put(keys[i], copy);
+                node = copy;
+            } else if (child instanceof Map<?, ?>) {
                 node = (Map<String, Object>) child;
             } else { // child is null or some other value - replace with map
                 Map<String, Object> newEntry = new HashMap<>();
@@ -113,7 +153,7 @@ public class YamlFileReader implements PropertyReader {
     @Override
     public void reload() {
         try (FileInputStream fis = new FileInputStream(file)) {
-            Object obj = new Yaml().load(fis);
+            Object obj = load(fis);
             root = obj == null ? new HashMap<>() : (Map<String, Object>) obj;
         } catch (IOException e) {
             throw new ConfigMeException("Could not read file '" + file + "'", e);
@@ -122,6 +162,49 @@ public class YamlFileReader implements PropertyReader {
         }
     }
 
+    /**
+     * @return the interner to deduplicate strings with, or null if strings are not deduplicated
+     */
+    @Nullable
+    protected StringInterner getStringInterner() {
+        return stringInterner;
+    }
+
+    /**
+     * Loads the YAML document from the given stream. By default, the document is loaded with the YAML instance
+     * of {@link #createYaml}.
+     *
+     * @param inputStream the stream of the file's contents
+     * @return the loaded root value, or null if the document is empty
+     */
+    protected Object load(InputStream inputStream) {
+        return createYaml(stringInterner).load(inputStream);
+    }
+
+    /**
+     * Creates the YAML instance to load the file with.
+     *
+     * @param stringInterner the string interner to use, or null if strings should not be deduplicated
+     * @return the YAML instance
+     */
+    protected Yaml createYaml(@Nullable StringInterner stringInterner) {
+        return createDefaultYaml(stringInterner);
+    }
+
+    /**
+     * Creates the YAML instance the readers of this package load files with by default.
+     *
+     * @param stringInterner the string interner to use, or null if strings should not be deduplicated
+     * @return the YAML instance
+     */
+    static Yaml createDefaultYaml(@Nullable StringInterner stringInterner) {
+        return stringInterner == null ? new Yaml() : new Yaml(new InterningConstructor(stringInterner));
+    }
+
+    private static boolean isImmutableMap(Object value) {
+        return value instanceof CompactMap;
+    }
+
     private static Object getIfIsMap(String key, Object value) {
         if (value instanceof Map<?, ?>) {
             return ((Map<?, ?>) value).get(key);
@@ -13,8 +13,11 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.*;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Property resource based on a YAML file.
@@ -28,6 +31,9 @@ public class YamlFileResource implements PropertyResource {
     private final LeafPropertiesGenerator leafPropertiesGenerator;
     private Yaml simpleYaml;
     private Yaml singleQuoteYaml;
+    /** Layout of the last exported configuration data, reused as long as the same configuration data is exported. */
+    @Nullable
+    private volatile ExportLayout exportLayout;
 
     /**
      * Constructor.
@@ -111,7 +117,24 @@ public class YamlFileResource implements PropertyResource {
     @Override
     public void exportProperties(ConfigurationData configurationData) {
         try (Writer writer = new FileWriter(file)) {
-            PropertyPathTraverser pathTraverser = new PropertyPathTraverser(configurationData);
+            writeProperties(configurationData, writer);
+            writer.flush();
+            writer.close();
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not save config to '" + file.getPath() + "'", e);
+        }
+    }
+
+    /**
+     * Writes the YAML export of the given configuration data to the writer.
+     *
+     * @param configurationData the configuration data to export
+     * @param writer the writer to write to
+     * @throws IOException if the writer throws an exception
+     */
+    protected void writeProperties(ConfigurationData configurationData, Writer writer) throws IOException {
+        try {
+            PropertyPathTraverser pathTraverser = new PropertyPathTraverser(getExportLayout(configurationData));
             for (Property<?> property : convertPropertiesToExportableTypes(configurationData.getProperties())) {
 
                 List<PathElement> pathElements = pathTraverser.getPathElements(property);
@@ -126,16 +149,21 @@ public class YamlFileResource implements PropertyResource {
                 writer.append(" ")
                     .append(toYaml(property, pathElements.get(pathElements.size() - 1).indentationLevel));
             }
-            writer.flush();
-            writer.close();
-        } catch (IOException e) {
-            throw new ConfigMeException("Could not save config to '" + file.getPath() + "'", e);
         } finally {
             simpleYaml = null;
             singleQuoteYaml = null;
         }
     }
 
+    private ExportLayout getExportLayout(ConfigurationData configurationData) {
+        ExportLayout layout = exportLayout;
+        if (layout == null || layout.getConfigurationData() != configurationData) {
+            layout = new ExportLayout(configurationData);
+            exportLayout = layout;
+        }
+        return layout;
+    }
+
     private void writeComments(Writer writer, int indentation, String[] comments) throws IOException {
         if (comments.length == 0) {
             return;
@@ -195,6 +223,14 @@ public class YamlFileResource implements PropertyResource {
     // For more custom types, you can override this method and implement your custom behavior
     // and call super.transformValue() at the end to handle all types already handled here
     protected String transformValue(@Nullable Property<?> property, Object value) {
+        if (value instanceof IntList) {
+            return transformPrimitiveList(((IntList) value).stream().boxed());
+        } else if (value instanceof LongList) {
+            return transformPrimitiveList(((LongList) value).stream().boxed());
+        } else if (value instanceof DoubleList) {
+            return transformPrimitiveList(((DoubleList) value).stream().boxed());
+        }
+
         if (value instanceof Collection) {
             Collection<?> collection = (Collection) value;
             // If the property is a non-empty collection we need to append a new line because it will be
@@ -223,12 +259,23 @@ public class YamlFileResource implements PropertyResource {
 
         if (value instanceof Enum<?>) {
             return getSingleQuoteYaml().dump(((Enum<?>) value).name());
+        } else if (value instanceof Pattern) {
+            return getSingleQuoteYaml().dump(((Pattern) value).pattern());
+        } else if (value instanceof Duration) {
+            return getSingleQuoteYaml().dump(DurationProperty.format((Duration) value));
+        } else if (value instanceof DataSize) {
+            return getSingleQuoteYaml().dump(value.toString());
         } else if (value instanceof String) {
             return getSingleQuoteYaml().dump(value);
         }
         return getSimpleYaml().dump(value);
     }
 
+    private String transformPrimitiveList(Stream<? extends Number> values) {
+        String result = values.map(v -> "\n- " + getSimpleYaml().dump(v).trim()).collect(Collectors.joining());
+        return result.isEmpty() ? "[]" : result;
+    }
+
     private <T> String toYaml(Property<T> property, int indent) {
         Object value = property.getValue(this);
         String representation = transformValue(property, value);
@@ -0,0 +1,239 @@
+package ch.jalu.configme.resource;
+
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Text of a YAML file with the position of each value from the last time it was parsed, so that individual values
+ * can be replaced without rewriting the file. Used by {@link IncrementalYamlFileResource}.
+ * <p>
+ * Only values in block mappings that are plain or quoted scalars on a single line can be replaced. Documents with
+ * aliases or merge keys are not patchable at all, as a value in the text may stand for multiple paths.
+ */
+final class YamlSource {
+
+    private final String text;
+    private final Map<String, Entry> entries;
+    private final boolean patchable;
+
+    private YamlSource(String text, Map<String, Entry> entries, boolean patchable) {
+        this.text = text;
+        this.entries = entries;
+        this.patchable = patchable;
+    }
+
+    /**
+     * Creates the source for the given text and its composed node tree.
+     *
+     * @param text the YAML text
+     * @param rootNode the node tree of the text, or null if the document is empty
+     * @param root the value constructed from the node tree, or null if the document is empty
+     * @return the source
+     */
+    static YamlSource create(String text, @Nullable Node rootNode, @Nullable Object root) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        boolean patchable = rootNode == null
+            || (rootNode instanceof MappingNode && root instanceof Map<?, ?> && indexMapping(text, "",
+                (MappingNode) rootNode, (Map<?, ?>) root, entries, Collections.newSetFromMap(new IdentityHashMap<>())));
+        return new YamlSource(text, entries, patchable);
+    }
+
+    /**
+     * @return source of a document whose values cannot be located, e.g. because it is not UTF-8 encoded
+     */
+    static YamlSource unpatchable() {
+        return new YamlSource("", Collections.emptyMap(), false);
+    }
+
+    /**
+     * @return true if values of this source can be replaced, false if the file must be exported entirely
+     */
+    boolean isPatchable() {
+        return patchable;
+    }
+
+    /**
+     * @return the YAML text
+     */
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the entry at the given path. Entries exist for all leaf values, i.e. all values except non-empty
+     * mappings.
+     *
+     * @param path the path to look up
+     * @return the entry, or null if there is no leaf value at the path
+     */
+    @Nullable
+    Entry getEntry(String path) {
+        return entries.get(path);
+    }
+
+    /**
+     * @return the paths of all leaf values
+     */
+    Set<String> getLeafPaths() {
+        return entries.keySet();
+    }
+
+    /**
+     * Returns a new source with the given values replaced. The replacements must be for patchable entries.
+     *
+     * @param replacements the new text and value by path
+     * @return the updated source
+     */
+    YamlSource withReplacements(Map<String, Replacement> replacements) {
+        List<Map.Entry<String, Replacement>> sortedReplacements = new ArrayList<>(replacements.entrySet());
+        sortedReplacements.sort(Comparator.comparingInt(e -> entries.get(e.getKey()).start));
+
+        StringBuilder newText = new StringBuilder(text.length());
+        int copiedUntil = 0;
+        for (Map.Entry<String, Replacement> replacement : sortedReplacements) {
+            Entry entry = entries.get(replacement.getKey());
+            newText.append(text, copiedUntil, entry.start).append(replacement.getValue().text);
+            copiedUntil = entry.end;
+        }
+        newText.append(text, copiedUntil, text.length());
+
+        Map<String, Entry> newEntries = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            int shift = 0;
+            for (Map.Entry<String, Replacement> replacement : sortedReplacements) {
+                Entry replacedEntry = entries.get(replacement.getKey());
+                if (replacedEntry.start >= entry.start) {
+                    break;
+                }
+                shift += replacement.getValue().text.length() - (replacedEntry.end - replacedEntry.start);
+            }
+            Replacement replacement = replacements.get(mapEntry.getKey());
+            Entry newEntry = replacement == null
+                ? new Entry(entry.start + shift, entry.end + shift, entry.replaceable, entry.value)
+                : new Entry(entry.start + shift, entry.start + shift + replacement.text.length(), true,
+                    replacement.value);
+            newEntries.put(mapEntry.getKey(), newEntry);
+        }
+        return new YamlSource(newText.toString(), newEntries, true);
+    }
+
+    /**
+     * Returns the number of bytes the given part of the text takes up in UTF-8.
+     *
+     * @param text the text
+     * @param end the end index (exclusive) of the part, starting from the beginning of the text
+     * @return the UTF-8 length
+     */
+    static int utf8Length(String text, int end) {
+        return text.substring(0, end).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static boolean indexMapping(String text, String path, MappingNode node, Map<?, ?> value,
+                                        Map<String, Entry> entries, Set<Node> visitedNodes) {
+        if (!visitedNodes.add(node)) {
+            return false; // alias
+        }
+        for (NodeTuple tuple : node.getValue()) {
+            if (!(tuple.getKeyNode() instanceof ScalarNode) || tuple.getKeyNode().getTag().equals(Tag.MERGE)) {
+                return false;
+            }
+            String key = ((ScalarNode) tuple.getKeyNode()).getValue();
+            String childPath = path.isEmpty() ? key : path + "." + key;
+            Node valueNode = tuple.getValueNode();
+            Object childValue = value.get(key);
+            if (valueNode instanceof MappingNode && !((MappingNode) valueNode).getValue().isEmpty()) {
+                if (!(childValue instanceof Map<?, ?>) || !indexMapping(text, childPath, (MappingNode) valueNode,
+                    (Map<?, ?>) childValue, entries, visitedNodes)) {
+                    return false;
+                }
+            } else {
+                if (!visitNodes(valueNode, visitedNodes) || entries.containsKey(childPath)) {
+                    return false; // alias or duplicate key
+                }
+                entries.put(childPath, createEntry(text, valueNode, childValue));
+            }
+        }
+        return true;
+    }
+
+    private static boolean visitNodes(Node node, Set<Node> visitedNodes) {
+        if (!visitedNodes.add(node)) {
+            return false;
+        } else if (node instanceof SequenceNode) {
+            return ((SequenceNode) node).getValue().stream().allMatch(child -> visitNodes(child, visitedNodes));
+        } else if (node instanceof MappingNode) {
+            return ((MappingNode) node).getValue().stream().allMatch(tuple ->
+                visitNodes(tuple.getKeyNode(), visitedNodes) && visitNodes(tuple.getValueNode(), visitedNodes));
+        }
+        return true;
+    }
+
+    private static Entry createEntry(String text, Node node, @Nullable Object value) {
+        int start = node.getStartMark().getIndex();
+        int end = node.getEndMark().getIndex();
+        boolean replaceable = node instanceof ScalarNode
+            && isSingleLineStyle(((ScalarNode) node).getStyle())
+            && end > start
+            && text.substring(start, end).indexOf('\n') < 0;
+        return new Entry(start, end, replaceable, value);
+    }
+
+    private static boolean isSingleLineStyle(@Nullable Character style) {
+        // Plain scalars have no style or the style 0, depending on whether they were parsed or created
+        return style == null || style != '|' && style != '>';
+    }
+
+    /**
+     * Position and value of a leaf value in the text.
+     */
+    static final class Entry {
+
+        /** Start index of the value in the text (inclusive). */
+        final int start;
+        /** End index of the value in the text (exclusive). */
+        final int end;
+        /** Whether the value's text can be replaced. */
+        final boolean replaceable;
+        /** The value as it was read from the text. */
+        @Nullable
+        final Object value;
+
+        Entry(int start, int end, boolean replaceable, @Nullable Object value) {
+            this.start = start;
+            this.end = end;
+            this.replaceable = replaceable;
+            this.value = value;
+        }
+    }
+
+    /**
+     * New text and value of an entry.
+     */
+    static final class Replacement {
+
+        final String text;
+        @Nullable
+        final Object value;
+
+        Replacement(String text, @Nullable Object value) {
+            this.text = text;
+            this.value = value;
+        }
+    }
+}
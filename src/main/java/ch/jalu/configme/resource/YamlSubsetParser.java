@@ -0,0 +1,330 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.utils.StringInterner;
+
+import javax.annotation.Nullable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass parser for the subset of YAML which {@link YamlFileResource#exportProperties} writes: block mappings,
+ * block sequences of scalars, single-quoted strings, numbers, booleans, empty flow collections and comments.
+ * The values are constructed the same way as by SnakeYAML, e.g. {@code 5} is an Integer and {@code 5.0} a Double.
+ * <p>
+ * Anything outside of this subset (anchors, tags, multi-line scalars, flow collections with entries, plain scalars
+ * that SnakeYAML might resolve differently, such as {@code yes} or {@code 0x1F}, etc.) is rejected, in which case
+ * the document should be loaded with SnakeYAML.
+ * <p>
+ * If a {@link ScalarSchema} is given, the scalars at known paths are converted to the expected type while parsing
+ * with {@link ScalarSchema#convert}, which is also used for documents loaded with SnakeYAML, so that the values do
+ * not depend on which parser loaded the document: for example, {@code name: 25565} is the String "25565" for a
+ * String property (whereas the Integer constructed without schema could not be used by the property). Scalars which
+ * cannot be converted to the expected type are kept as without schema, so that the property reports them as invalid.
+ */
+final class YamlSubsetParser {
+
+    private static final Pattern INTEGER = Pattern.compile("-?(0|[1-9][0-9]*)");
+    private static final Pattern DECIMAL = Pattern.compile("-?(0|[1-9][0-9]*)\\.[0-9]+");
+    private static final Pattern PLAIN_STRING = Pattern.compile("[A-Za-z][A-Za-z0-9_ ./@-]*");
+    private static final Pattern PLAIN_KEY = Pattern.compile("[A-Za-z_][A-Za-z0-9_.-]*");
+    /** Words which SnakeYAML resolves as booleans or null in any case; these are left to SnakeYAML. */
+    private static final Set<String> RESERVED_WORDS =
+        new HashSet<>(Arrays.asList("yes", "no", "true", "false", "on", "off", "null"));
+
+    private final String[] lines;
+    @Nullable
+    private final StringInterner stringInterner;
+    @Nullable
+    private final ScalarSchema schema;
+    /** Index of the current line. */
+    private int lineIndex;
+    /** Indentation of the current line. */
+    private int indentation;
+
+    private YamlSubsetParser(String text, @Nullable StringInterner stringInterner, @Nullable ScalarSchema schema) {
+        this.lines = text.split("\n", -1);
+        this.stringInterner = stringInterner;
+        this.schema = schema;
+    }
+
+    /**
+     * Parses the given YAML document.
+     *
+     * @param text the YAML text
+     * @param stringInterner interner to deduplicate keys and string values with, or null
+     * @return the root mapping, or null if the document is not within the supported subset
+     */
+    @Nullable
+    static Map<String, Object> parse(String text, @Nullable StringInterner stringInterner) {
+        return parse(text, stringInterner, null);
+    }
+
+    /**
+     * Parses the given YAML document, constructing the scalars at the paths of the schema as the expected type.
+     *
+     * @param text the YAML text
+     * @param stringInterner interner to deduplicate keys and string values with, or null
+     * @param schema the expected types of scalars by path, or null
+     * @return the root mapping, or null if the document is not within the supported subset
+     */
+    @Nullable
+    static Map<String, Object> parse(String text, @Nullable StringInterner stringInterner,
+                                     @Nullable ScalarSchema schema) {
+        YamlSubsetParser parser = new YamlSubsetParser(text, stringInterner, schema);
+        try {
+            Map<String, Object> root = new LinkedHashMap<>();
+            if (parser.nextLine()) {
+                root = parser.parseMapping(parser.indentation, schema == null ? null : "");
+                if (parser.lineIndex < parser.lines.length) {
+                    return null;
+                }
+            }
+            return root;
+        } catch (UnsupportedSyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Skips blank lines and comments, and computes the indentation of the next line with content.
+     *
+     * @return true if there is a line with content, false if the end of the document was reached
+     */
+    private boolean nextLine() {
+        while (lineIndex < lines.length) {
+            String line = lines[lineIndex];
+            int i = 0;
+            while (i < line.length() && line.charAt(i) == ' ') {
+                ++i;
+            }
+            if (i < line.length() && line.charAt(i) == '\t') {
+                throw new UnsupportedSyntaxException();
+            }
+            String content = line.substring(i).trim();
+            if (!content.isEmpty() && content.charAt(0) != '#') {
+                indentation = i;
+                return true;
+            }
+            ++lineIndex;
+        }
+        return false;
+    }
+
+    private String currentContent() {
+        String line = lines[lineIndex];
+        return line.endsWith("\r") ? line.substring(indentation, line.length() - 1) : line.substring(indentation);
+    }
+
+    private static boolean isSequenceEntry(String content) {
+        return content.startsWith("- ") || content.equals("-");
+    }
+
+    /**
+     * Parses the mapping at the current line.
+     *
+     * @param mappingIndentation the indentation of the mapping's keys
+     * @param parentPath the path of the mapping, or null if there is no schema and paths are not needed
+     * @return the mapping
+     */
+    private Map<String, Object> parseMapping(int mappingIndentation, @Nullable String parentPath) {
+        Map<String, Object> mapping = new LinkedHashMap<>();
+        while (indentation == mappingIndentation) {
+            String content = currentContent();
+            if (isSequenceEntry(content)) {
+                throw new UnsupportedSyntaxException();
+            }
+
+            int colonIndex = findKeyEnd(content);
+            String key = intern(parseKey(content.substring(0, colonIndex)));
+            String path = parentPath == null ? null : parentPath.isEmpty() ? key : parentPath + "." + key;
+            String valueText = content.substring(colonIndex + 1);
+            ++lineIndex;
+            boolean hasNextLine = nextLine();
+
+            Object value;
+            if (!isBlankOrComment(valueText)) {
+                value = parseScalar(valueText.trim(), path == null ? null : schema.getScalarType(path));
+                if (hasNextLine && indentation > mappingIndentation) {
+                    throw new UnsupportedSyntaxException(); // multi-line scalar
+                }
+            } else if (hasNextLine && indentation >= mappingIndentation && isSequenceEntry(currentContent())) {
+                value = parseSequence(indentation, path == null ? null : schema.getElementType(path));
+            } else if (hasNextLine && indentation > mappingIndentation) {
+                value = parseMapping(indentation, path);
+            } else {
+                value = null;
+            }
+            mapping.put(key, value);
+
+            if (!hasNextLine || lineIndex >= lines.length) {
+                break;
+            } else if (indentation > mappingIndentation) {
+                throw new UnsupportedSyntaxException();
+            }
+        }
+        return mapping;
+    }
+
+    private List<Object> parseSequence(int sequenceIndentation, @Nullable Class<?> elementType) {
+        List<Object> sequence = new ArrayList<>();
+        while (indentation == sequenceIndentation && lineIndex < lines.length) {
+            String content = currentContent();
+            if (!isSequenceEntry(content)) {
+                break;
+            }
+            String itemText = content.substring(1);
+            if (isBlankOrComment(itemText)) {
+                throw new UnsupportedSyntaxException(); // nested block or null entry
+            }
+            sequence.add(parseScalar(itemText.trim(), elementType));
+            ++lineIndex;
+            if (!nextLine()) {
+                break;
+            } else if (indentation > sequenceIndentation) {
+                throw new UnsupportedSyntaxException();
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Returns the index of the colon which ends the key of the given mapping entry.
+     */
+    private static int findKeyEnd(String content) {
+        int index;
+        if (content.charAt(0) == '\'') {
+            index = findClosingQuote(content) + 1;
+        } else {
+            index = content.indexOf(':');
+        }
+        if (index < 0 || index >= content.length() || content.charAt(index) != ':'
+            || (index + 1 < content.length() && content.charAt(index + 1) != ' ')) {
+            throw new UnsupportedSyntaxException();
+        }
+        return index;
+    }
+
+    private static String parseKey(String keyText) {
+        if (keyText.charAt(0) == '\'') {
+            return unescapeSingleQuoted(keyText.substring(1, keyText.length() - 1));
+        } else if (PLAIN_KEY.matcher(keyText).matches() && !RESERVED_WORDS.contains(keyText.toLowerCase())) {
+            return keyText;
+        }
+        throw new UnsupportedSyntaxException();
+    }
+
+    @Nullable
+    private Object parseScalar(String text, @Nullable Class<?> expectedType) {
+        Object value = parseScalar(text);
+        if (expectedType == null) {
+            return value;
+        }
+        Object convertedValue = ScalarSchema.convert(value, expectedType);
+        return convertedValue instanceof String && convertedValue != value
+            ? intern((String) convertedValue)
+            : convertedValue;
+    }
+
+    @Nullable
+    private Object parseScalar(String text) {
+        char first = text.charAt(0);
+        if (first == '\'') {
+            int closingQuote = findClosingQuote(text);
+            if (closingQuote < 0 || !isBlankOrComment(text.substring(closingQuote + 1))) {
+                throw new UnsupportedSyntaxException();
+            }
+            return intern(unescapeSingleQuoted(text.substring(1, closingQuote)));
+        } else if (first == '"') {
+            int closingQuote = text.indexOf('"', 1);
+            if (closingQuote < 0 || text.lastIndexOf('\\', closingQuote) >= 0
+                || !isBlankOrComment(text.substring(closingQuote + 1))) {
+                throw new UnsupportedSyntaxException();
+            }
+            return intern(text.substring(1, closingQuote));
+        }
+
+        int commentStart = text.indexOf(" #");
+        String plain = commentStart < 0 ? text : text.substring(0, commentStart).trim();
+        if (plain.equals("[]")) {
+            return new ArrayList<>();
+        } else if (plain.equals("{}")) {
+            return new LinkedHashMap<>();
+        } else if (plain.equals("true") || plain.equals("false")) {
+            return Boolean.valueOf(plain);
+        } else if (plain.equals("null") || plain.equals("~")) {
+            return null;
+        } else if (INTEGER.matcher(plain).matches()) {
+            return createInteger(plain);
+        } else if (DECIMAL.matcher(plain).matches()) {
+            return Double.valueOf(plain);
+        } else if (PLAIN_STRING.matcher(plain).matches() && !RESERVED_WORDS.contains(plain.toLowerCase())) {
+            return intern(plain);
+        }
+        throw new UnsupportedSyntaxException();
+    }
+
+    /** Creates the smallest of Integer, Long and BigInteger for the number, like SnakeYAML. */
+    private static Number createInteger(String number) {
+        try {
+            return Integer.valueOf(number);
+        } catch (NumberFormatException e) {
+            try {
+                return Long.valueOf(number);
+            } catch (NumberFormatException e2) {
+                return new BigInteger(number);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the quote which closes the single-quoted scalar at the start of the text,
+     * or -1 if the scalar is not closed on the same line.
+     */
+    private static int findClosingQuote(String text) {
+        int i = 1;
+        while (i < text.length()) {
+            if (text.charAt(i) == '\'') {
+                if (i + 1 < text.length() && text.charAt(i + 1) == '\'') {
+                    i += 2; // escaped quote
+                    continue;
+                }
+                return i;
+            }
+            ++i;
+        }
+        return -1;
+    }
+
+    private static String unescapeSingleQuoted(String text) {
+        return text.indexOf('\'') < 0 ? text : text.replace("''", "'");
+    }
+
+    private static boolean isBlankOrComment(String text) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() || (trimmed.charAt(0) == '#' && (text.isEmpty() || text.charAt(0) == ' '));
+    }
+
+    private String intern(String text) {
+        return stringInterner == null ? text : stringInterner.intern(text);
+    }
+
+    /**
+     * Thrown when the document contains syntax outside of the supported subset. Has no stack trace
+     * as it is only used for control flow.
+     */
+    private static final class UnsupportedSyntaxException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedSyntaxException() {
+            super(null, null, false, false);
+        }
+    }
+}
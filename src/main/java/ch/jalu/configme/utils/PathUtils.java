@@ -0,0 +1,44 @@
+package ch.jalu.configme.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilities for property paths, such as {@code "DataSource.mysql.port"}.
+ */
+public final class PathUtils {
+
+    private PathUtils() {
+    }
+
+    /**
+     * Splits the given path into its elements, e.g. {@code ["DataSource", "mysql", "port"]} for
+     * {@code "DataSource.mysql.port"}. Behaves like {@code path.split("\\.")} without the overhead of
+     * a regular expression.
+     *
+     * @param path the path to split
+     * @return the path's elements
+     */
+    public static String[] splitPath(String path) {
+        int separator = path.indexOf('.');
+        if (separator < 0) {
+            return new String[]{ path };
+        }
+
+        List<String> elements = new ArrayList<>();
+        int start = 0;
+        while (separator >= 0) {
+            elements.add(path.substring(start, separator));
+            start = separator + 1;
+            separator = path.indexOf('.', start);
+        }
+        elements.add(path.substring(start));
+
+        // Like String#split, trailing empty elements are removed
+        int size = elements.size();
+        while (size > 0 && elements.get(size - 1).isEmpty()) {
+            --size;
+        }
+        return elements.subList(0, size).toArray(new String[size]);
+    }
+}
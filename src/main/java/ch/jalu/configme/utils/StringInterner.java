@@ -0,0 +1,71 @@
+package ch.jalu.configme.utils;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded table of strings, used to deduplicate equal strings (such as the keys of configuration files with the same
+ * structure) so that they share the same instance. Unlike {@link String#intern()}, the table only grows up to the given
+ * number of entries; afterwards, strings which are not yet in the table are returned as is. Long strings are never
+ * added to the table as they are unlikely to be repeated.
+ * <p>
+ * This class is thread-safe, so one instance can be shared by multiple readers.
+ */
+public class StringInterner {
+
+    private static final StringInterner SHARED_INSTANCE = new StringInterner(50_000, 64);
+
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final int maxLength;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize the maximum number of strings to keep
+     * @param maxLength the maximum length of strings to keep
+     */
+    public StringInterner(int maxSize, int maxLength) {
+        this.maxSize = maxSize;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the shared instance, which keeps up to 50,000 strings of a length of up to 64 characters.
+     *
+     * @return shared interner
+     */
+    public static StringInterner getShared() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Returns the instance from the table which is equal to the given string. If the table has no such entry,
+     * the given string is added to it (unless the table is full or the string is too long) and returned.
+     *
+     * @param str the string to intern
+     * @return equal string from the table, or the given string
+     */
+    @Nullable
+    public String intern(@Nullable String str) {
+        if (str == null || str.length() > maxLength) {
+            return str;
+        }
+        String existing = strings.get(str);
+        if (existing != null) {
+            return existing;
+        } else if (strings.size() >= maxSize) {
+            return str;
+        }
+        existing = strings.putIfAbsent(str, str);
+        return existing == null ? str : existing;
+    }
+
+    /**
+     * @return number of strings in the table
+     */
+    public int size() {
+        return strings.size();
+    }
+}
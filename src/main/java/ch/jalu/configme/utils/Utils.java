@@ -2,8 +2,15 @@ package ch.jalu.configme.utils;
 
 import ch.jalu.configme.exception.ConfigMeException;
 
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Utilities class.
@@ -39,4 +46,44 @@ public final class Utils {
             }
         }
     }
+
+    /**
+     * Reads all remaining bytes of the given stream.
+     *
+     * @param inputStream the stream to read
+     * @return the bytes
+     * @throws IOException if the stream cannot be read
+     */
+    public static byte[] readAllBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes the given bytes as UTF-8 if they are valid UTF-8 without a byte order mark. Used to process YAML
+     * files without SnakeYAML when possible, leaving the detection of other encodings to SnakeYAML.
+     *
+     * @param bytes the bytes to decode
+     * @return the text, or null if the bytes are not plain UTF-8
+     */
+    @Nullable
+    public static String decodeUtf8(byte[] bytes) {
+        if (bytes.length > 0 && (bytes[0] == 0 || (bytes[0] & 0xFF) >= 0xFE || (bytes[0] & 0xFF) == 0xEF)) {
+            return null; // byte order mark or UTF-16/32
+        }
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(ByteBuffer.wrap(bytes))
+                .toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
 }
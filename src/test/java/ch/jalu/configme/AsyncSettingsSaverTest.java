@@ -0,0 +1,178 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static ch.jalu.configme.TestUtils.verifyException;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for {@link AsyncSettingsSaver}.
+ */
+public class AsyncSettingsSaverTest {
+
+    private final QueueExecutor executor = new QueueExecutor();
+
+    @Test
+    public void shouldCoalescePendingSaves() {
+        // given
+        SettingsManager settingsManager = mock(SettingsManager.class);
+        AsyncSettingsSaver saver = new AsyncSettingsSaver(settingsManager, executor);
+
+        // when
+        CompletableFuture<Void> future1 = saver.save();
+        CompletableFuture<Void> future2 = saver.save();
+        CompletableFuture<Void> future3 = saver.save();
+        boolean doneBeforeRun = future1.isDone();
+        executor.runAll();
+
+        // then
+        assertThat(doneBeforeRun, equalTo(false));
+        assertThat(future2, sameInstance(future1));
+        assertThat(future3, sameInstance(future1));
+        assertThat(future1.isDone(), equalTo(true));
+        verify(settingsManager, times(1)).save();
+        assertThat(saver.getRequestCount(), equalTo(3L));
+        assertThat(saver.getSaveCount(), equalTo(1L));
+    }
+
+    @Test
+    public void shouldScheduleNewSaveIfRequestedWhileSaving() {
+        // given
+        SettingsManager settingsManager = mock(SettingsManager.class);
+        AsyncSettingsSaver saver = new AsyncSettingsSaver(settingsManager, executor);
+        CompletableFuture<?>[] futureDuringSave = new CompletableFuture<?>[1];
+        willAnswer(invocation -> {
+            if (futureDuringSave[0] == null) {
+                futureDuringSave[0] = saver.save();
+            }
+            return null;
+        }).given(settingsManager).save();
+
+        // when
+        CompletableFuture<Void> future = saver.save();
+        executor.runAll();
+
+        // then
+        assertThat(futureDuringSave[0], not(sameInstance(future)));
+        assertThat(futureDuringSave[0].isDone(), equalTo(true));
+        verify(settingsManager, times(2)).save();
+    }
+
+    @Test
+    public void shouldCompleteFutureExceptionallyForFailedSave() {
+        // given
+        SettingsManager settingsManager = mock(SettingsManager.class);
+        willThrow(new ConfigMeException("Disk full")).given(settingsManager).save();
+        AsyncSettingsSaver saver = new AsyncSettingsSaver(settingsManager, executor);
+
+        // when
+        CompletableFuture<Void> future = saver.save();
+        executor.runAll();
+
+        // then
+        assertThat(future.isCompletedExceptionally(), equalTo(true));
+    }
+
+    @Test
+    public void shouldReturnCompletedFutureForDirectExecutor() {
+        // given
+        SettingsManager settingsManager = mock(SettingsManager.class);
+        AsyncSettingsSaver saver = new AsyncSettingsSaver(settingsManager, Runnable::run);
+
+        // when
+        CompletableFuture<Void> future = saver.save();
+
+        // then
+        assertThat(future, not(nullValue()));
+        assertThat(future.isDone(), equalTo(true));
+        verify(settingsManager).save();
+    }
+
+    @Test
+    public void shouldReturnFailedFutureIfExecutorRejectsSave() {
+        // given
+        SettingsManager settingsManager = mock(SettingsManager.class);
+        AsyncSettingsSaver saver = new AsyncSettingsSaver(settingsManager, task -> {
+            throw new RejectedExecutionException("Shut down");
+        });
+
+        // when
+        CompletableFuture<Void> future = saver.save();
+
+        // then
+        assertThat(future, not(nullValue()));
+        assertThat(future.isCompletedExceptionally(), equalTo(true));
+        saver.flush(); // does not wait for the rejected save
+    }
+
+    @Test
+    public void shouldCompleteFutureIfSaveThrowsError() {
+        // given
+        SettingsManager settingsManager = mock(SettingsManager.class);
+        willThrow(new OutOfMemoryError("Test")).given(settingsManager).save();
+        AsyncSettingsSaver saver = new AsyncSettingsSaver(settingsManager, executor);
+        CompletableFuture<Void> future = saver.save();
+
+        // when
+        try {
+            executor.runAll();
+            fail("Expected error to be thrown");
+        } catch (OutOfMemoryError e) {
+            // expected
+        }
+
+        // then
+        assertThat(future.isCompletedExceptionally(), equalTo(true));
+        saver.close(); // returns instead of waiting for the failed save
+    }
+
+    @Test
+    public void shouldFlushOnClose() {
+        // given
+        SettingsManager settingsManager = mock(SettingsManager.class);
+        AsyncSettingsSaver saver = new AsyncSettingsSaver(settingsManager);
+        CompletableFuture<Void> future = saver.save();
+
+        // when
+        saver.close();
+
+        // then
+        assertThat(future.isDone(), equalTo(true));
+        verify(settingsManager).save();
+        verifyException(saver::save, ConfigMeException.class, "closed");
+    }
+
+    private static final class QueueExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
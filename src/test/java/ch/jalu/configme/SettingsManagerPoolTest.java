@@ -0,0 +1,130 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.resource.InMemoryResource;
+import ch.jalu.configme.resource.PropertyResource;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static ch.jalu.configme.TestUtils.verifyException;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link SettingsManagerPool}.
+ */
+public class SettingsManagerPoolTest {
+
+    @Test
+    public void shouldCreateAndReuseSettingsManagers() {
+        // given
+        List<String> createdKeys = new ArrayList<>();
+        SettingsManagerPool<String> pool = new SettingsManagerPool<>(createResourceFactory(createdKeys), null, 2,
+            TestConfiguration.class);
+
+        // when
+        SettingsManager manager1 = pool.get("t1");
+        SettingsManager manager2 = pool.get("t2");
+        SettingsManager manager1Again = pool.get("t1");
+
+        // then
+        assertThat(manager1Again, sameInstance(manager1));
+        assertThat(manager2, not(sameInstance(manager1)));
+        assertThat(manager2.configurationData, sameInstance(manager1.configurationData));
+        assertThat(manager2.getProperty(TestConfiguration.DURATION_IN_SECONDS), equalTo(2));
+        assertThat(createdKeys, contains("t1", "t2"));
+        assertThat(pool.getHitCount(), equalTo(1L));
+        assertThat(pool.getMissCount(), equalTo(2L));
+        assertThat(pool.getEvictionCount(), equalTo(0L));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedSettingsManager() {
+        // given
+        List<String> createdKeys = new ArrayList<>();
+        SettingsManagerPool<String> pool = new SettingsManagerPool<>(createResourceFactory(createdKeys), null, 2,
+            TestConfiguration.class);
+        pool.get("t1");
+        pool.get("t2");
+        pool.get("t1");
+
+        // when
+        pool.get("t3");
+        pool.get("t1");
+        pool.get("t2");
+
+        // then
+        assertThat(createdKeys, contains("t1", "t2", "t3", "t2"));
+        assertThat(pool.size(), equalTo(2));
+        assertThat(pool.getEvictionCount(), equalTo(2L));
+        assertThat(pool.getHitCount(), equalTo(2L));
+        assertThat(pool.getMissCount(), equalTo(4L));
+    }
+
+    @Test
+    public void shouldCreateSettingsManagerOnceForConcurrentRequests() throws Exception {
+        // given
+        List<String> createdKeys = new CopyOnWriteArrayList<>();
+        CountDownLatch factoryEntered = new CountDownLatch(1);
+        CountDownLatch finishCreation = new CountDownLatch(1);
+        Function<String, PropertyResource> resourceFactory = createResourceFactory(createdKeys);
+        SettingsManagerPool<String> pool = new SettingsManagerPool<>(key -> {
+            factoryEntered.countDown();
+            try {
+                finishCreation.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return resourceFactory.apply(key);
+        }, null, 2, TestConfiguration.class);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<SettingsManager> manager1 = executor.submit(() -> pool.get("t3"));
+            factoryEntered.await();
+            Future<SettingsManager> manager2 = executor.submit(() -> pool.get("t3"));
+            while (pool.getHitCount() == 0) {
+                Thread.sleep(1);
+            }
+            finishCreation.countDown();
+
+            // then
+            assertThat(manager2.get(5, TimeUnit.SECONDS), sameInstance(manager1.get(5, TimeUnit.SECONDS)));
+            assertThat(createdKeys, contains("t3"));
+            assertThat(pool.getMissCount(), equalTo(1L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidMaximumSize() {
+        // given / when / then
+        verifyException(
+            () -> new SettingsManagerPool<String>(key -> new InMemoryResource(), null, 0, TestConfiguration.class),
+            ConfigMeException.class, "Maximum size must be positive");
+    }
+
+    private static Function<String, PropertyResource> createResourceFactory(List<String> createdKeys) {
+        return key -> {
+            createdKeys.add(key);
+            InMemoryResource resource = new InMemoryResource();
+            resource.setValue("test.duration", Integer.parseInt(key.substring(1)));
+            return resource;
+        };
+    }
+}
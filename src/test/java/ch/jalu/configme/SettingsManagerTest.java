@@ -5,8 +5,13 @@ import ch.jalu.configme.beanmapper.worldgroup.Group;
 import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.events.EventSubscriber;
+import ch.jalu.configme.events.EventSubscription;
+import ch.jalu.configme.events.SettingsChangeEvent;
+import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.properties.BeanProperty;
+import ch.jalu.configme.properties.LowercaseStringSetProperty;
 import ch.jalu.configme.properties.OptionalProperty;
 import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.resource.PropertyResource;
@@ -22,31 +27,46 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static ch.jalu.configme.TestUtils.containsAll;
 import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static ch.jalu.configme.properties.PropertyInitializer.newLowercaseSetProperty;
 import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
 
 /**
  * Test for {@link SettingsManager}.
@@ -79,7 +99,9 @@ public class SettingsManagerTest {
 
         // then
         verifyWasMigrationServiceChecked();
-        verifyZeroInteractions(resource);
+        // values are read from the resource on startup, but nothing may be written
+        verify(resource, never()).exportProperties(any(ConfigurationData.class));
+        verify(resource, never()).setValue(anyString(), any());
     }
 
     @Test
@@ -111,6 +133,71 @@ public class SettingsManagerTest {
         assertThat(result, equalTo(propValue));
     }
 
+    @Test
+    public void shouldKeepPropertyValueUntilResourceIsModified() {
+        // given
+        SettingsManager manager = createManager();
+        Property<String> property = typedMock();
+        given(property.getPath()).willReturn("some.path");
+        given(property.getValue(resource)).willReturn("first", "second");
+
+        // when
+        String result1 = manager.getProperty(property);
+        String result2 = manager.getProperty(property);
+        manager.setProperty(property, "other");
+        String result3 = manager.getProperty(property);
+
+        // then
+        assertThat(result1, equalTo("first"));
+        assertThat(result2, equalTo("first"));
+        assertThat(result3, equalTo("second"));
+        verify(property, times(2)).getValue(resource);
+    }
+
+    @Test
+    public void shouldResolveKnownPropertiesOnLoad() {
+        // given
+        Property<Integer> property = newProperty("demo.prop", 3);
+        ConfigurationData configurationData = new ConfigurationData(Collections.singletonList(property));
+        given(resource.getInt("demo.prop")).willReturn(5, 7);
+
+        // when
+        SettingsManager manager = new SettingsManager(resource, null, configurationData);
+        int value1 = manager.getProperty(property);
+        int value2 = manager.getProperty(property);
+        manager.reload();
+        int value3 = manager.getProperty(property);
+
+        // then
+        assertThat(value1, equalTo(5));
+        assertThat(value2, equalTo(5));
+        assertThat(value3, equalTo(7));
+        verify(resource, times(2)).getInt("demo.prop");
+        assertThat(manager.getPropertyValues().getMissingProperties(), empty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCheckSetMembershipIgnoringCase() {
+        // given
+        LowercaseStringSetProperty property = newLowercaseSetProperty("demo.allowed", "default");
+        ConfigurationData configurationData = new ConfigurationData(Collections.singletonList(property));
+        List allowed = Arrays.asList("Alice", "BOB");
+        given(resource.getList("demo.allowed")).willReturn(allowed);
+        SettingsManager manager = new SettingsManager(resource, null, configurationData);
+
+        // when
+        boolean result1 = manager.containsIgnoreCase(property, "alice");
+        boolean result2 = manager.containsIgnoreCase(property, "Bob");
+        boolean result3 = manager.containsIgnoreCase(property, "default");
+
+        // then
+        assertThat(result1, equalTo(true));
+        assertThat(result2, equalTo(true));
+        assertThat(result3, equalTo(false));
+        verify(resource, times(1)).getList("demo.allowed");
+    }
+
     @Test
     public void shouldSetProperty() {
         // given
@@ -141,6 +228,153 @@ public class SettingsManagerTest {
         verifyWasMigrationServiceChecked();
     }
 
+    @Test
+    public void shouldCoalesceConcurrentReloads() throws InterruptedException {
+        // given
+        SettingsManager manager = createManager();
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch finishReload = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            reloadStarted.countDown();
+            finishReload.await();
+            return null;
+        }).doNothing().when(resource).reload();
+        Queue<Throwable> exceptions = new ConcurrentLinkedQueue<>();
+        Thread firstThread = startThread(manager::reload, exceptions);
+        reloadStarted.await();
+
+        // when
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            threads.add(startThread(manager::reload, exceptions));
+        }
+        for (Thread thread : threads) {
+            waitUntilWaiting(thread);
+        }
+        finishReload.countDown();
+        firstThread.join();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(exceptions, empty());
+        verify(resource, times(2)).reload();
+    }
+
+    @Test
+    public void shouldThrowReloadFailureToAllJoinedCallers() throws InterruptedException {
+        // given
+        SettingsManager manager = createManager();
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch finishReload = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            reloadStarted.countDown();
+            finishReload.await();
+            return null;
+        }).doThrow(new ConfigMeException("Broken file")).doNothing().when(resource).reload();
+        Queue<Throwable> exceptions = new ConcurrentLinkedQueue<>();
+        Thread firstThread = startThread(manager::reload, exceptions);
+        reloadStarted.await();
+        Thread secondThread = startThread(manager::reload, exceptions);
+        Thread thirdThread = startThread(manager::reload, exceptions);
+        waitUntilWaiting(secondThread);
+        waitUntilWaiting(thirdThread);
+
+        // when
+        finishReload.countDown();
+        firstThread.join();
+        secondThread.join();
+        thirdThread.join();
+
+        // then
+        assertThat(exceptions, hasSize(2));
+        assertThat(exceptions.poll().getMessage(), equalTo("Broken file"));
+        assertThat(exceptions.poll().getMessage(), equalTo("Broken file"));
+        verify(resource, times(2)).reload();
+
+        // when / then
+        manager.reload();
+        verify(resource, times(3)).reload();
+    }
+
+    @Test
+    public void shouldLoadReloadAndSaveAsynchronously() throws Exception {
+        // given
+        Property<Integer> property = newProperty("demo.prop", 3);
+        ConfigurationData configurationData = new ConfigurationData(Collections.singletonList(property));
+        given(resource.getInt("demo.prop")).willReturn(5, 7);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Thread callingThread = Thread.currentThread();
+        Thread[] loadingThread = new Thread[1];
+
+        // when
+        SettingsManager manager = SettingsManager.createAsync(() -> {
+            loadingThread[0] = Thread.currentThread();
+            return resource;
+        }, null, configurationData, executor).get(5, TimeUnit.SECONDS);
+        int value1 = manager.getProperty(property);
+        manager.reloadAsync(executor).get(5, TimeUnit.SECONDS);
+        int value2 = manager.getProperty(property);
+        manager.saveAsync(executor).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(loadingThread[0], not(callingThread));
+        assertThat(value1, equalTo(5));
+        assertThat(value2, equalTo(7));
+        verify(resource).reload();
+        verify(resource).exportProperties(configurationData);
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldPublishChangeEventsOnReload() throws InterruptedException {
+        // given
+        Property<Integer> property1 = newProperty("demo.prop", 3);
+        Property<Integer> property2 = newProperty("demo.prop3", 0);
+        ConfigurationData configurationData = new ConfigurationData(Arrays.asList(property1, property2));
+        given(resource.getInt("demo.prop")).willReturn(5, 7);
+        given(resource.getInt("demo.prop3")).willReturn(1, 1, 4);
+        given(migrationService.checkAndMigrate(eq(resource), anyList())).willReturn(false, false, true);
+        SettingsManager manager = new SettingsManager(resource, migrationService, configurationData);
+        BlockingQueue<SettingsChangeEvent> events = new LinkedBlockingQueue<>();
+        manager.getChangePublisher().subscribe(new EventSubscriber<SettingsChangeEvent>() {
+            @Override
+            public void onSubscribe(EventSubscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(SettingsChangeEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        // when
+        manager.reload();
+        manager.reload();
+
+        // then
+        SettingsChangeEvent event1 = events.poll(5, TimeUnit.SECONDS);
+        SettingsChangeEvent event2 = events.poll(5, TimeUnit.SECONDS);
+        assertThat(event1.getPath(), equalTo("demo.prop"));
+        assertThat(event1.getOldValue(), equalTo(5));
+        assertThat(event1.getNewValue(), equalTo(7));
+        assertThat(event1.getSource(), equalTo(SettingsChangeEvent.Source.RELOAD));
+        assertThat(event2.getPath(), equalTo("demo.prop3"));
+        assertThat(event2.getOldValue(), equalTo(1));
+        assertThat(event2.getNewValue(), equalTo(4));
+        assertThat(event2.getSource(), equalTo(SettingsChangeEvent.Source.MIGRATION));
+    }
+
     @Test
     public void shouldHandleNullMigrationService() {
         // given
@@ -229,6 +463,24 @@ public class SettingsManagerTest {
         assertThat(file.length(), greaterThan(fileLength));
     }
 
+    private static Thread startThread(Runnable runnable, Queue<Throwable> exceptions) {
+        Thread thread = new Thread(() -> {
+            try {
+                runnable.run();
+            } catch (RuntimeException e) {
+                exceptions.add(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void waitUntilWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
     private void verifyWasMigrationServiceChecked() {
         verify(migrationService, only()).checkAndMigrate(eq(resource), knownPropertiesCaptor.capture());
         assertThat(knownPropertiesCaptor.getValue(), containsAll(configurationData.getProperties()));
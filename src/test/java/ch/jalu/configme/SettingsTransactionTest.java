@@ -0,0 +1,210 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.IntegerProperty;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.PropertyConstraint;
+import ch.jalu.configme.resource.EnvironmentPropertyResource;
+import ch.jalu.configme.resource.InMemoryResource;
+import ch.jalu.configme.resource.LayeredPropertyResource;
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static ch.jalu.configme.TestUtils.verifyException;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newStringKeyMapProperty;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for {@link SettingsTransaction}.
+ */
+public class SettingsTransactionTest {
+
+    private final Property<Integer> port = newProperty("server.port", 8080);
+    private final Property<String> host = newProperty("server.host", "localhost");
+    private final Property<Integer> workers = new IntegerProperty("server.workers", 4) {
+        @Override
+        protected Integer getFromResource(PropertyResource resource) {
+            Integer value = super.getFromResource(resource);
+            return (value == null || value < 1) ? null : value;
+        }
+    };
+    private final Property<String> motd = newProperty("motd", "Welcome");
+
+    @Test
+    public void shouldApplyAllChangesAtOnce() {
+        // given
+        PropertyResource resource = spy(new InMemoryResource());
+        SettingsManager settingsManager = createSettingsManager(resource);
+        List<Set<Property<?>>> notifications = new ArrayList<>();
+        settingsManager.addChangeListener(notifications::add);
+
+        // when
+        SettingsTransaction transaction = settingsManager.beginTransaction()
+            .set(port, 25565)
+            .set(host, "example.org")
+            .set(motd, "Welcome");
+        int portBeforeCommit = settingsManager.getProperty(port);
+        transaction.commit();
+
+        // then
+        assertThat(portBeforeCommit, equalTo(8080));
+        assertThat(settingsManager.getProperty(port), equalTo(25565));
+        assertThat(settingsManager.getProperty(host), equalTo("example.org"));
+        assertThat(notifications, contains(containsInAnyOrder(port, host)));
+        verify(resource, times(1)).exportProperties(any(ConfigurationData.class));
+    }
+
+    @Test
+    public void shouldRestorePreviousValuesForInvalidValue() {
+        // given
+        PropertyResource resource = spy(new InMemoryResource());
+        resource.setValue("server.port", 1234);
+        SettingsManager settingsManager = createSettingsManager(resource);
+        List<Set<Property<?>>> notifications = new ArrayList<>();
+        settingsManager.addChangeListener(notifications::add);
+        SettingsTransaction transaction = settingsManager.beginTransaction()
+            .set(port, 25565)
+            .set(workers, 0);
+
+        // when
+        verifyException(transaction::commit, ConfigMeException.class, "server.workers");
+
+        // then
+        assertThat(settingsManager.getProperty(port), equalTo(1234));
+        assertThat(resource.getObject("server.port"), equalTo(1234));
+        assertThat(resource.getObject("server.workers"), equalTo(null));
+        assertThat(notifications, empty());
+        verify(resource, never()).exportProperties(any(ConfigurationData.class));
+    }
+
+    @Test
+    public void shouldRejectChangeMakingOtherPropertyInvalid() {
+        // given
+        Property<Map<String, String>> server = newStringKeyMapProperty(String.class, "server", new HashMap<>());
+        PropertyResource resource = new InMemoryResource();
+        resource.setValue("server.workers", 2);
+        ConfigurationData configurationData = new ConfigurationData(Arrays.asList(server, workers));
+        SettingsManager settingsManager = new SettingsManager(resource, null, configurationData);
+        Map<String, String> newServerValue = new HashMap<>();
+        newServerValue.put("workers", "many");
+        SettingsTransaction transaction = settingsManager.beginTransaction().set(server, newServerValue);
+
+        // when
+        verifyException(transaction::commit, ConfigMeException.class, "server.workers");
+
+        // then
+        assertThat(settingsManager.getProperty(workers), equalTo(2));
+        assertThat(resource.getObject("server.workers"), equalTo(2));
+    }
+
+    @Test
+    public void shouldPublishValueOfResourceAboveWritableLayer() {
+        // given
+        PropertyResource file = new InMemoryResource();
+        Map<String, String> environment = new HashMap<>();
+        environment.put("APP_SERVER_PORT", "9000");
+        PropertyResource environmentResource = new EnvironmentPropertyResource(Arrays.asList(port, host),
+            EnvironmentPropertyResource.environmentVariableNaming("app"),
+            EnvironmentPropertyResource.systemPropertyNaming("app"), environment::get, name -> null);
+        PropertyResource resource = new LayeredPropertyResource(Arrays.asList(file, environmentResource), 0);
+        SettingsManager settingsManager = createSettingsManager(resource);
+        List<Set<Property<?>>> notifications = new ArrayList<>();
+        settingsManager.addChangeListener(notifications::add);
+
+        // when
+        settingsManager.beginTransaction().set(port, 25565).set(host, "example.org").commit();
+
+        // then
+        assertThat(settingsManager.getProperty(port), equalTo(9000));
+        assertThat(settingsManager.getProperty(host), equalTo("example.org"));
+        assertThat(file.getObject("server.port"), equalTo(25565));
+        assertThat(notifications, contains(contains(host)));
+    }
+
+    @Test
+    public void shouldPublishValuesAndNotifyListenersIfSaveFails() {
+        // given
+        PropertyResource resource = spy(new InMemoryResource());
+        doThrow(new ConfigMeException("Disk full")).when(resource).exportProperties(any(ConfigurationData.class));
+        SettingsManager settingsManager = createSettingsManager(resource);
+        List<Set<Property<?>>> notifications = new ArrayList<>();
+        settingsManager.addChangeListener(notifications::add);
+        SettingsTransaction transaction = settingsManager.beginTransaction().set(port, 25565);
+
+        // when
+        verifyException(transaction::commit, ConfigMeException.class, "Disk full");
+
+        // then
+        assertThat(settingsManager.getProperty(port), equalTo(25565));
+        assertThat(notifications, contains(contains(port)));
+    }
+
+    @Test
+    public void shouldNotifyListenersForSetProperty() {
+        // given
+        SettingsManager settingsManager = createSettingsManager(new InMemoryResource());
+        List<Set<Property<?>>> notifications = new ArrayList<>();
+        SettingsChangeListener listener = notifications::add;
+        settingsManager.addChangeListener(listener);
+
+        // when
+        settingsManager.setProperty(workers, 8);
+        settingsManager.setProperty(workers, 8);
+        settingsManager.removeChangeListener(listener);
+        settingsManager.setProperty(workers, 16);
+
+        // then
+        assertThat(notifications, contains(contains(workers)));
+    }
+
+    @Test
+    public void shouldRejectValueViolatingConstraint() {
+        // given
+        motd.addConstraint(PropertyConstraint.notBlank());
+        SettingsManager settingsManager = createSettingsManager(new InMemoryResource());
+        SettingsTransaction transaction = settingsManager.beginTransaction().set(motd, " ");
+
+        // when
+        verifyException(transaction::commit, ConfigMeException.class, "(must not be blank)");
+
+        // then
+        assertThat(settingsManager.getProperty(motd), equalTo("Welcome"));
+        assertThat(settingsManager.getPropertyValues().getConstraintViolations(), empty());
+    }
+
+    @Test
+    public void shouldNotAllowSecondCommit() {
+        // given
+        SettingsManager settingsManager = createSettingsManager(new InMemoryResource());
+        SettingsTransaction transaction = settingsManager.beginTransaction().set(port, 80);
+        transaction.commit();
+
+        // when / then
+        verifyException(transaction::commit, ConfigMeException.class, "already been committed");
+        verifyException(() -> transaction.set(port, 81), ConfigMeException.class, "already been committed");
+    }
+
+    private SettingsManager createSettingsManager(PropertyResource resource) {
+        ConfigurationData configurationData = new ConfigurationData(Arrays.asList(port, host, workers, motd));
+        return new SettingsManager(resource, null, configurationData);
+    }
+}
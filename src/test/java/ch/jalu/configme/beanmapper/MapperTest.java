@@ -244,6 +244,21 @@ public class MapperTest {
         assertThat(result, nullValue());
     }
 
+    @Test
+    public void shouldCheckBeanStructure() {
+        // given
+        PropertyResource resource = new YamlFileResource(getJarFile("/beanmapper/commands.yml"));
+        PropertyResource invalidResource = new YamlFileResource(getJarFile("/beanmapper/commands_invalid_2.yml"));
+        Mapper mapper = ConfigMeMapper.getSingleton();
+
+        // when / then
+        assertThat(mapper.hasBeanStructure("commandconfig", resource, CommandConfig.class), equalTo(true));
+        assertThat(mapper.hasBeanStructure("commandconfig.commands.save", resource, Command.class), equalTo(true));
+        assertThat(mapper.hasBeanStructure("othersection", resource, CommandConfig.class), equalTo(false));
+        assertThat(mapper.hasBeanStructure("does-not-exist", resource, CommandConfig.class), equalTo(false));
+        assertThat(mapper.hasBeanStructure("commandconfig", invalidResource, CommandConfig.class), equalTo(false));
+    }
+
     @Test
     public void shouldHandleEmptyOptionalFields() {
         // given
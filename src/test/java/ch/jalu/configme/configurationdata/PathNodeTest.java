@@ -0,0 +1,54 @@
+package ch.jalu.configme.configurationdata;
+
+import org.junit.Test;
+
+import static ch.jalu.configme.TestUtils.transform;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link PathNode}.
+ */
+public class PathNodeTest {
+
+    @Test
+    public void shouldLookUpChildrenAndKeepOrder() {
+        // given
+        PathNode root = PathNode.createRoot();
+        String[] names = { "k", "j", "i", "h", "g", "f", "e", "d", "c", "b", "a" };
+
+        // when
+        for (String name : names) {
+            root.addChild(name);
+        }
+        PathNode child = root.getOrCreateChild("c").getOrCreateChild("sub");
+
+        // then
+        assertThat(transform(root.getChildren(), PathNode::getName),
+            contains("k", "j", "i", "h", "g", "f", "e", "d", "c", "b", "a"));
+        for (String name : names) {
+            assertThat(root.getChild(name).getName(), equalTo(name));
+        }
+        assertThat(root.getChild("z"), nullValue());
+        assertThat(root.getOrCreateChild("c").getChild("sub"), sameInstance(child));
+        assertThat(child.getPath(), equalTo("c.sub"));
+        assertThat(child.getPathElements(), contains("c", "sub"));
+        assertThat(child.getParent().getParent(), sameInstance(root));
+    }
+
+    @Test
+    public void shouldHaveEmptyPathForRoot() {
+        // given / when
+        PathNode root = PathNode.createRoot();
+
+        // then
+        assertThat(root.getPath(), equalTo(""));
+        assertThat(root.getPathElements(), empty());
+        assertThat(root.getDepth(), equalTo(0));
+        assertThat(root.getParent(), nullValue());
+    }
+}
@@ -4,15 +4,15 @@ import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.properties.Property;
 import org.junit.Test;
 
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import static ch.jalu.configme.TestUtils.transform;
 import static ch.jalu.configme.TestUtils.verifyException;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -77,19 +77,52 @@ public class PropertyListBuilderTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
-    public void shouldThrowForUnknownInternalEntry() throws ReflectiveOperationException {
+    public void shouldAddAllPropertiesInBulk() {
         // given
-        PropertyListBuilder properties = new PropertyListBuilder();
-        properties.add(createPropertyWithPath("test.name"));
+        List<String> paths = Arrays.asList("japan.toyota", "japan.tokyo.sumida", "japan.tokyo.taito",
+            "china.shanghai", "china.shenzhen", "japan.nagoya", "egypt.cairo");
+        PropertyListBuilder builder = new PropertyListBuilder();
 
-        Map<String, Object> internalMap = getInternalMap(properties);
-        // Put an unknown object in test.version
-        ((Map<String, Object>) internalMap.get("test")).put("version", new Object());
+        // when
+        builder.addAll(transform(paths, PropertyListBuilderTest::createPropertyWithPath));
+
+        // then
+        assertThat(transform(builder.create(), Property::getPath), contains("japan.toyota", "japan.tokyo.sumida",
+            "japan.tokyo.taito", "japan.nagoya", "china.shanghai", "china.shenzhen", "egypt.cairo"));
+    }
+
+    @Test
+    public void shouldThrowForDuplicatePathInBulk() {
+        // given
+        PropertyListBuilder builder = new PropertyListBuilder();
+        List<Property<?>> properties = Arrays.asList(createPropertyWithPath("test.name"),
+            createPropertyWithPath("test.version"), createPropertyWithPath("test.name"));
 
         // when / then
-        verifyException(() -> properties.add(createPropertyWithPath("test.version.minor")),
-            ConfigMeException.class, "Value of unknown type found");
+        verifyException(() -> builder.addAll(properties), ConfigMeException.class, "already exists");
+    }
+
+    @Test
+    public void shouldProvideTreeWithSharedPathElements() {
+        // given
+        PropertyListBuilder builder = new PropertyListBuilder();
+        Property<?> mysqlEnabled = createPropertyWithPath("datasource.mysql.enabled");
+        builder.add(mysqlEnabled);
+        builder.add(createPropertyWithPath("datasource.sqlite.enabled"));
+        builder.add(createPropertyWithPath("datasource.mysql.port"));
+
+        // when
+        PathNode rootNode = builder.getRootNode();
+
+        // then
+        PathNode dataSourceNode = rootNode.getChild("datasource");
+        assertThat(transform(dataSourceNode.getChildren(), PathNode::getName), contains("mysql", "sqlite"));
+        PathNode mysqlEnabledNode = dataSourceNode.getChild("mysql").getChild("enabled");
+        PathNode sqliteEnabledNode = dataSourceNode.getChild("sqlite").getChild("enabled");
+        assertThat(mysqlEnabledNode.getProperty(), sameInstance(mysqlEnabled));
+        assertThat(mysqlEnabledNode.getDepth(), equalTo(3));
+        assertThat(mysqlEnabledNode.getPath(), equalTo("datasource.mysql.enabled"));
+        assertThat(mysqlEnabledNode.getName(), sameInstance(sqliteEnabledNode.getName()));
     }
 
     private static Property<?> createPropertyWithPath(String path) {
@@ -97,11 +130,4 @@ public class PropertyListBuilderTest {
         when(property.getPath()).thenReturn(path);
         return property;
     }
-
-    private static Map<String, Object> getInternalMap(PropertyListBuilder properties)
-                                                      throws ReflectiveOperationException {
-        Field field = PropertyListBuilder.class.getDeclaredField("rootEntries");
-        field.setAccessible(true);
-        return (Map<String, Object>) field.get(properties);
-    }
 }
@@ -0,0 +1,167 @@
+package ch.jalu.configme.configurationdata.processor;
+
+import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.samples.TestConfiguration;
+import ch.jalu.configme.samples.TestConfiguration_ConfigurationData;
+import org.hamcrest.Matcher;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static ch.jalu.configme.TestUtils.containsAll;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link ConfigurationDataProcessor}.
+ */
+public class ConfigurationDataProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldGenerateSameDataAsReflection() {
+        // given
+        ConfigurationData expected = ConfigurationDataBuilder.collectData(TestConfiguration.class);
+
+        // when
+        ConfigurationData result = TestConfiguration_ConfigurationData.create();
+
+        // then
+        assertThat(result.getProperties(), containsAll(expected.getProperties()));
+        for (Property<?> property : expected.getProperties()) {
+            String[] path = property.getPath().split("\\.");
+            for (int i = 0; i < path.length; ++i) {
+                String section = String.join(".", Arrays.asList(path).subList(0, i + 1));
+                assertThat(result.getCommentsForSection(section), equalTo(expected.getCommentsForSection(section)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldGenerateClassForValidHolder() throws IOException {
+        // given
+        String source = "package test;\n"
+            + "import ch.jalu.configme.*;\n"
+            + "import ch.jalu.configme.properties.*;\n"
+            + "@GenerateConfigurationData\n"
+            + "public class Valid implements SettingsHolder {\n"
+            + "  @Comment(\"Quoted \\\"comment\\\"\")\n"
+            + "  public static final Property<Integer> SIZE = new IntegerProperty(\"size\", 3);\n"
+            + "  public final Property<Integer> ignored = new IntegerProperty(\"ignored\", 3);\n"
+            + "  @GenerateConfigurationData\n"
+            + "  public static final class Nested implements SettingsHolder { }\n"
+            + "}\n";
+
+        // when
+        List<Diagnostic<? extends JavaFileObject>> errors = compile("test.Valid", source);
+
+        // then
+        assertThat(errors, empty());
+        File generatedFolder = new File(temporaryFolder.getRoot(), "test");
+        assertThat(new File(generatedFolder, "Valid_ConfigurationData.class").exists(), equalTo(true));
+        assertThat(new File(generatedFolder, "Valid_Nested_ConfigurationData.class").exists(), equalTo(true));
+    }
+
+    @Test
+    public void shouldReportInvalidPropertyFieldsAndMethods() throws IOException {
+        // given
+        String source = "package test;\n"
+            + "import ch.jalu.configme.*;\n"
+            + "import ch.jalu.configme.properties.*;\n"
+            + "import java.util.*;\n"
+            + "@GenerateConfigurationData\n"
+            + "public class Invalid implements SettingsHolder {\n"
+            + "  static final Property<Integer> SIZE = new IntegerProperty(\"size\", 3);\n"
+            + "  @SectionComments public Map<String, String[]> nonStatic() { return null; }\n"
+            + "  @SectionComments public static Map<String, String[]> withParam(int i) { return null; }\n"
+            + "  @SectionComments public static List<String> wrongType() { return null; }\n"
+            + "}\n";
+
+        // when
+        List<Diagnostic<? extends JavaFileObject>> errors = compile("test.Invalid", source);
+
+        // then
+        List<String> messages = errors.stream().map(d -> d.getMessage(null)).collect(Collectors.toList());
+        assertThat(messages, hasSize(4));
+        assertThat(messages, containsInAnyOrderSubstrings("must be public", "must be static",
+            "may not have any parameters", "Return value must be Map<String, String[]>"));
+    }
+
+    @Test
+    public void shouldReportClassNotImplementingSettingsHolder() throws IOException {
+        // given
+        String source = "package test;\n"
+            + "@ch.jalu.configme.GenerateConfigurationData\n"
+            + "public class NoHolder { }\n";
+
+        // when
+        List<Diagnostic<? extends JavaFileObject>> errors = compile("test.NoHolder", source);
+
+        // then
+        assertThat(errors, hasSize(1));
+        assertThat(errors.get(0).getMessage(null), containsString("must implement SettingsHolder"));
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(String className, String source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String configMeClasses = new File(SettingsHolder.class.getProtectionDomain().getCodeSource().getLocation()
+            .getPath()).getAbsolutePath();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-classpath", configMeClasses, "-d", temporaryFolder.getRoot().getPath()),
+                null, Collections.singletonList(new SourceFile(className, source)));
+            task.setProcessors(Collections.singletonList(new ConfigurationDataProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics().stream()
+            .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+            .collect(Collectors.toList());
+    }
+
+    private static Matcher<Iterable<? extends String>> containsInAnyOrderSubstrings(String... parts) {
+        List<Matcher<? super String>> matchers = Arrays.stream(parts)
+            .map(part -> containsString(part))
+            .collect(Collectors.toList());
+        return containsInAnyOrder(matchers);
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
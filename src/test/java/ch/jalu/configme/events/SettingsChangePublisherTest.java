@@ -0,0 +1,203 @@
+package ch.jalu.configme.events;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link SettingsChangePublisher}.
+ */
+public class SettingsChangePublisherTest {
+
+    private final Property<Integer> port = newProperty("server.port", 8080);
+    private final Property<String> host = newProperty("server.host", "localhost");
+
+    @Test
+    public void shouldDeliverRequestedEventsOnly() {
+        // given
+        SettingsChangePublisher publisher = new SettingsChangePublisher(Runnable::run, 10);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        // when
+        publisher.publish(Arrays.asList(event(port, 1), event(port, 2), event(host, "a")));
+        List<Object> valuesBeforeRequest = new ArrayList<>(subscriber.values);
+        subscriber.subscription.request(2);
+        List<Object> valuesAfterFirstRequest = new ArrayList<>(subscriber.values);
+        subscriber.subscription.request(5);
+
+        // then
+        assertThat(valuesBeforeRequest, empty());
+        assertThat(valuesAfterFirstRequest, contains(1, 2));
+        assertThat(subscriber.values, contains(1, 2, "a"));
+    }
+
+    @Test
+    public void shouldFilterByProperty() {
+        // given
+        SettingsChangePublisher publisher = new SettingsChangePublisher(Runnable::run, 10);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(host, subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // when
+        publisher.publish(Arrays.asList(event(port, 1), event(host, "a"), event(port, 2), event(host, "b")));
+
+        // then
+        assertThat(subscriber.values, contains("a", "b"));
+    }
+
+    @Test
+    public void shouldTerminateSubscriberWhichDoesNotKeepUp() {
+        // given
+        SettingsChangePublisher publisher = new SettingsChangePublisher(Runnable::run, 2);
+        RecordingSubscriber slowSubscriber = new RecordingSubscriber();
+        RecordingSubscriber fastSubscriber = new RecordingSubscriber();
+        publisher.subscribe(slowSubscriber);
+        publisher.subscribe(fastSubscriber);
+        fastSubscriber.subscription.request(Long.MAX_VALUE);
+
+        // when
+        publisher.publish(Arrays.asList(event(port, 1), event(port, 2)));
+        publisher.publish(Collections.singletonList(event(port, 3)));
+        publisher.publish(Collections.singletonList(event(port, 4)));
+
+        // then
+        assertThat(slowSubscriber.values, empty());
+        assertThat(slowSubscriber.error, instanceOf(ConfigMeException.class));
+        assertThat(fastSubscriber.values, contains(1, 2, 3, 4));
+        assertThat(fastSubscriber.error, nullValue());
+        assertThat(publisher.hasSubscribers(), equalTo(true));
+    }
+
+    @Test
+    public void shouldCompleteAfterBufferedEventsOnClose() {
+        // given
+        SettingsChangePublisher publisher = new SettingsChangePublisher(Runnable::run, 10);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        publisher.publish(Arrays.asList(event(port, 1), event(port, 2)));
+
+        // when
+        publisher.close();
+        boolean completedBeforeRequest = subscriber.completed;
+        subscriber.subscription.request(2);
+
+        // then
+        assertThat(completedBeforeRequest, equalTo(false));
+        assertThat(subscriber.values, contains(1, 2));
+        assertThat(subscriber.completed, equalTo(true));
+        assertThat(publisher.hasSubscribers(), equalTo(false));
+    }
+
+    @Test
+    public void shouldCompleteSubscriberAddedAfterClose() {
+        // given
+        SettingsChangePublisher publisher = new SettingsChangePublisher(Runnable::run, 10);
+        publisher.close();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        // when
+        publisher.subscribe(subscriber);
+
+        // then
+        assertThat(subscriber.completed, equalTo(true));
+        assertThat(publisher.hasSubscribers(), equalTo(false));
+    }
+
+    @Test
+    public void shouldCompleteSubscribersAddedWhileClosing() throws Exception {
+        for (int i = 0; i < 200; ++i) {
+            // given
+            SettingsChangePublisher publisher = new SettingsChangePublisher(Runnable::run, 10);
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            CountDownLatch start = new CountDownLatch(1);
+            Thread subscribingThread = new Thread(() -> {
+                awaitQuietly(start);
+                publisher.subscribe(subscriber);
+            });
+            subscribingThread.start();
+
+            // when
+            start.countDown();
+            publisher.close();
+            subscribingThread.join();
+
+            // then
+            assertThat(subscriber.completed, equalTo(true));
+            assertThat(publisher.hasSubscribers(), equalTo(false));
+        }
+    }
+
+    @Test
+    public void shouldStopDeliveringAfterCancel() {
+        // given
+        SettingsChangePublisher publisher = new SettingsChangePublisher(Runnable::run, 10);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+        publisher.publish(Collections.singletonList(event(port, 1)));
+
+        // when
+        subscriber.subscription.cancel();
+        publisher.publish(Collections.singletonList(event(port, 2)));
+
+        // then
+        assertThat(subscriber.values, contains(1));
+        assertThat(publisher.hasSubscribers(), equalTo(false));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SettingsChangeEvent event(Property<?> property, Object newValue) {
+        return new SettingsChangeEvent(property, null, newValue, SettingsChangeEvent.Source.SET);
+    }
+
+    private static final class RecordingSubscriber implements EventSubscriber<SettingsChangeEvent> {
+
+        private EventSubscription subscription;
+        private final List<Object> values = new ArrayList<>();
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(EventSubscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(SettingsChangeEvent event) {
+            values.add(event.getNewValue());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
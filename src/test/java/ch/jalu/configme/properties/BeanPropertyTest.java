@@ -3,6 +3,7 @@ package ch.jalu.configme.properties;
 import ch.jalu.configme.beanmapper.Mapper;
 import ch.jalu.configme.beanmapper.command.Command;
 import ch.jalu.configme.beanmapper.command.CommandConfig;
+import ch.jalu.configme.beanmapper.command.ExecutionDetails;
 import ch.jalu.configme.beanmapper.command.Executor;
 import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
 import ch.jalu.configme.configurationdata.ConfigurationData;
@@ -13,6 +14,9 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import static ch.jalu.configme.TestUtils.copyFileFromResources;
 import static java.util.Collections.singletonList;
@@ -21,6 +25,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -96,4 +101,39 @@ public class BeanPropertyTest {
         assertThat(result, equalTo(groupConfig));
         verify(mapper).convertToBean(path, resource, WorldGroupConfig.class);
     }
+
+    @Test
+    public void shouldNotMapSectionWithoutBeanStructure() {
+        // given
+        Mapper mapper = mock(Mapper.class);
+        String path = "cnf";
+        BeanProperty<WorldGroupConfig> property =
+            new BeanProperty<>(WorldGroupConfig.class, path, new WorldGroupConfig(), mapper);
+        PropertyResource resource = mock(PropertyResource.class);
+        given(mapper.hasBeanStructure(path, resource, WorldGroupConfig.class)).willReturn(false);
+
+        // when
+        boolean isPresent = property.isPresent(resource);
+
+        // then
+        assertThat(isPresent, equalTo(false));
+        verify(mapper, never()).convertToBean(path, resource, WorldGroupConfig.class);
+    }
+
+    @Test
+    public void shouldNotBePresentForInvalidLeafValue() throws IOException {
+        // given
+        BeanProperty<ExecutionDetails> property =
+            new BeanProperty<>(ExecutionDetails.class, "execution", new ExecutionDetails());
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "execution:\n  executor: USER\n  importance: abc\n  privileges: []\n"
+            .getBytes(StandardCharsets.UTF_8));
+        PropertyResource resource = new YamlFileResource(file);
+
+        // when
+        boolean isPresent = property.isPresent(resource);
+
+        // then
+        assertThat(isPresent, equalTo(false));
+    }
 }
@@ -0,0 +1,68 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.InMemoryResource;
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link DataSizeProperty} and {@link DataSize}.
+ */
+public class DataSizePropertyTest {
+
+    @Test
+    public void shouldParseDataSizes() {
+        // given / when / then
+        assertThat(DataSize.parse("512MB"), equalTo(DataSize.ofMegabytes(512)));
+        assertThat(DataSize.parse("2 gb"), equalTo(DataSize.ofGigabytes(2)));
+        assertThat(DataSize.parse("16k"), equalTo(DataSize.ofKilobytes(16)));
+        assertThat(DataSize.parse("100B"), equalTo(DataSize.ofBytes(100)));
+        assertThat(DataSize.parse("1TB").toBytes(), equalTo(1024L * 1024 * 1024 * 1024));
+        assertThat(DataSize.parse("7"), equalTo(DataSize.ofBytes(7)));
+    }
+
+    @Test
+    public void shouldReturnNullForInvalidDataSizes() {
+        // given / when / then
+        assertThat(DataSize.parse(""), nullValue());
+        assertThat(DataSize.parse("MB"), nullValue());
+        assertThat(DataSize.parse("1.5GB"), nullValue());
+        assertThat(DataSize.parse("-3KB"), nullValue());
+        assertThat(DataSize.parse("10000000TB"), nullValue());
+    }
+
+    @Test
+    public void shouldFormatInLargestWholeUnit() {
+        // given / when / then
+        assertThat(DataSize.ofMegabytes(512).toString(), equalTo("512MB"));
+        assertThat(DataSize.ofKilobytes(1536).toString(), equalTo("1536KB"));
+        assertThat(DataSize.ofBytes(1000).toString(), equalTo("1000B"));
+        assertThat(DataSize.ofBytes(0).toString(), equalTo("0B"));
+    }
+
+    @Test
+    public void shouldGetValueFromResource() {
+        // given
+        PropertyResource resource = new InMemoryResource();
+        resource.setValue("size.text", "64KB");
+        resource.setValue("size.number", 2048);
+        resource.setValue("size.invalid", "lots");
+        resource.setValue("size.negative", -1);
+        DataSize defaultValue = DataSize.ofKilobytes(1);
+
+        // when
+        DataSize result1 = new DataSizeProperty("size.text", defaultValue).getValue(resource);
+        DataSize result2 = new DataSizeProperty("size.number", defaultValue).getValue(resource);
+        DataSize result3 = new DataSizeProperty("size.invalid", defaultValue).getValue(resource);
+        DataSize result4 = new DataSizeProperty("size.negative", defaultValue).getValue(resource);
+
+        // then
+        assertThat(result1, equalTo(DataSize.ofKilobytes(64)));
+        assertThat(result2, equalTo(DataSize.ofKilobytes(2)));
+        assertThat(result3, equalTo(defaultValue));
+        assertThat(result4, equalTo(defaultValue));
+    }
+}
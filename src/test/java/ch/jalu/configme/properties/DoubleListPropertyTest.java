@@ -0,0 +1,93 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link DoubleListProperty} and {@link DoubleList}.
+ */
+public class DoubleListPropertyTest {
+
+    private static PropertyResource resource;
+
+    @BeforeClass
+    @SuppressWarnings("unchecked")
+    public static void setUpConfiguration() {
+        resource = mock(PropertyResource.class);
+        List numberList = Arrays.asList(3, 7L, 12.9);
+        when(resource.getList("list.path.numbers")).thenReturn(numberList);
+        when(resource.getList("list.path.wrong")).thenReturn(null);
+        List mixedList = Arrays.asList(1, "2", 3);
+        when(resource.getList("list.path.mixed")).thenReturn(mixedList);
+    }
+
+    @Test
+    public void shouldGetDoubleListValue() {
+        // given
+        Property<DoubleList> property = new DoubleListProperty("list.path.numbers", 1.0, 2.0);
+
+        // when
+        DoubleList result = property.getValue(resource);
+
+        // then
+        assertThat(result, equalTo(DoubleList.of(3.0, 7.0, 12.9)));
+        assertThat(result.size(), equalTo(3));
+        assertThat(result.get(2), equalTo(12.9));
+        assertThat(result.contains(7.0), equalTo(true));
+        assertThat(result.contains(7.5), equalTo(false));
+    }
+
+    @Test
+    public void shouldGetDefaultForMissingOrMixedList() {
+        // given
+        Property<DoubleList> property1 = new DoubleListProperty("list.path.wrong", 4.0, 5.5);
+        Property<DoubleList> property2 = new DoubleListProperty("list.path.mixed", 6.0);
+
+        // when
+        DoubleList result1 = property1.getValue(resource);
+        DoubleList result2 = property2.getValue(resource);
+
+        // then
+        assertThat(result1, equalTo(DoubleList.of(4.0, 5.5)));
+        assertThat(result2, equalTo(DoubleList.of(6.0)));
+    }
+
+    @Test
+    public void shouldCheckIfValueIsListForPresenceCheck() {
+        // given
+        Property<DoubleList> property1 = new DoubleListProperty("list.path.wrong");
+        Property<DoubleList> property2 = new DoubleListProperty("list.path.mixed");
+
+        // when
+        boolean result1 = property1.isPresent(resource);
+        boolean result2 = property2.isPresent(resource);
+
+        // then
+        assertThat(result1, equalTo(false));
+        assertThat(result2, equalTo(true));
+    }
+
+    @Test
+    public void shouldNotExposeInternalArray() {
+        // given
+        double[] values = {1.5, 2.0, 3.0};
+        DoubleList list = DoubleList.of(values);
+
+        // when
+        values[0] = 10.0;
+        list.toArray()[1] = 20.0;
+
+        // then
+        assertThat(list.toArray(), equalTo(new double[]{1.5, 2.0, 3.0}));
+        assertThat(list.stream().sum(), equalTo(6.5));
+    }
+}
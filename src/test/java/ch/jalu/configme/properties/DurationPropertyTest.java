@@ -0,0 +1,87 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.InMemoryResource;
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link DurationProperty}.
+ */
+public class DurationPropertyTest {
+
+    @Test
+    public void shouldParseDurations() {
+        // given / when / then
+        assertThat(DurationProperty.parse("30s"), equalTo(Duration.ofSeconds(30)));
+        assertThat(DurationProperty.parse("500ms"), equalTo(Duration.ofMillis(500)));
+        assertThat(DurationProperty.parse("1h30m"), equalTo(Duration.ofMinutes(90)));
+        assertThat(DurationProperty.parse(" 2d 4H "), equalTo(Duration.ofHours(52)));
+        assertThat(DurationProperty.parse("PT1M5S"), equalTo(Duration.ofSeconds(65)));
+    }
+
+    @Test
+    public void shouldReturnNullForInvalidDurations() {
+        // given / when / then
+        assertThat(DurationProperty.parse(""), nullValue());
+        assertThat(DurationProperty.parse("30"), nullValue());
+        assertThat(DurationProperty.parse("1h bogus"), nullValue());
+        assertThat(DurationProperty.parse("5 weeks"), nullValue());
+        assertThat(DurationProperty.parse("PT"), nullValue());
+        assertThat(DurationProperty.parse("99999999999999999999s"), nullValue());
+    }
+
+    @Test
+    public void shouldFormatDurations() {
+        // given / when / then
+        assertThat(DurationProperty.format(Duration.ZERO), equalTo("0s"));
+        assertThat(DurationProperty.format(Duration.ofSeconds(30)), equalTo("30s"));
+        assertThat(DurationProperty.format(Duration.ofMinutes(90).plusMillis(5)), equalTo("1h30m5ms"));
+        assertThat(DurationProperty.format(Duration.ofDays(3)), equalTo("3d"));
+        assertThat(DurationProperty.format(Duration.ofNanos(1500)), equalTo("PT0.0000015S"));
+    }
+
+    @Test
+    public void shouldGetValueFromResource() {
+        // given
+        PropertyResource resource = new InMemoryResource();
+        resource.setValue("timeout.text", "45s");
+        resource.setValue("timeout.number", 12);
+        resource.setValue("timeout.duration", Duration.ofHours(1));
+        Duration defaultValue = Duration.ofSeconds(5);
+
+        // when
+        Duration result1 = new DurationProperty("timeout.text", defaultValue).getValue(resource);
+        Duration result2 = new DurationProperty("timeout.number", defaultValue).getValue(resource);
+        Duration result3 = new DurationProperty("timeout.duration", defaultValue).getValue(resource);
+        Duration result4 = new DurationProperty("timeout.missing", defaultValue).getValue(resource);
+
+        // then
+        assertThat(result1, equalTo(Duration.ofSeconds(45)));
+        assertThat(result2, equalTo(Duration.ofSeconds(12)));
+        assertThat(result3, equalTo(Duration.ofHours(1)));
+        assertThat(result4, equalTo(defaultValue));
+    }
+
+    @Test
+    public void shouldReportInvalidValueOnLoad() {
+        // given
+        PropertyResource resource = new InMemoryResource();
+        resource.setValue("timeout", "soon");
+        DurationProperty property = new DurationProperty("timeout", Duration.ofSeconds(5));
+
+        // when
+        PropertyValues values = PropertyValues.resolve(resource, Arrays.asList(property));
+
+        // then
+        assertThat(values.get(property), equalTo(Duration.ofSeconds(5)));
+        assertThat(values.getInvalidProperties(), contains(property));
+    }
+}
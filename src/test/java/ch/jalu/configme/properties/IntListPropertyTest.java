@@ -0,0 +1,127 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link IntListProperty} and {@link IntList}.
+ */
+public class IntListPropertyTest {
+
+    private static PropertyResource resource;
+
+    @BeforeClass
+    @SuppressWarnings("unchecked")
+    public static void setUpConfiguration() {
+        resource = mock(PropertyResource.class);
+        List numberList = Arrays.asList(3, 7L, 12.0);
+        when(resource.getList("list.path.numbers")).thenReturn(numberList);
+        when(resource.getList("list.path.wrong")).thenReturn(null);
+        List mixedList = Arrays.asList(1, "2", 3);
+        when(resource.getList("list.path.mixed")).thenReturn(mixedList);
+        List fractionList = Arrays.asList(1, 3.7);
+        when(resource.getList("list.path.fraction")).thenReturn(fractionList);
+        List outOfRangeList = Arrays.asList(1, 3000000000L);
+        when(resource.getList("list.path.outOfRange")).thenReturn(outOfRangeList);
+    }
+
+    @Test
+    public void shouldGetIntListValue() {
+        // given
+        Property<IntList> property = new IntListProperty("list.path.numbers", 1, 2);
+
+        // when
+        IntList result = property.getValue(resource);
+
+        // then
+        assertThat(result, equalTo(IntList.of(3, 7, 12)));
+        assertThat(result.size(), equalTo(3));
+        assertThat(result.get(2), equalTo(12));
+        assertThat(result.contains(7), equalTo(true));
+        assertThat(result.contains(8), equalTo(false));
+    }
+
+    @Test
+    public void shouldGetDefaultForMissingOrMixedList() {
+        // given
+        Property<IntList> property1 = new IntListProperty("list.path.wrong", 4, 5);
+        Property<IntList> property2 = new IntListProperty("list.path.mixed", 6);
+
+        // when
+        IntList result1 = property1.getValue(resource);
+        IntList result2 = property2.getValue(resource);
+
+        // then
+        assertThat(result1, equalTo(IntList.of(4, 5)));
+        assertThat(result2, equalTo(IntList.of(6)));
+    }
+
+    @Test
+    public void shouldGetDefaultForFractionOrOutOfRangeNumbers() {
+        // given
+        Property<IntList> property1 = new IntListProperty("list.path.fraction", 4);
+        Property<IntList> property2 = new IntListProperty("list.path.outOfRange", 5);
+
+        // when
+        IntList result1 = property1.getValue(resource);
+        IntList result2 = property2.getValue(resource);
+
+        // then
+        assertThat(result1, equalTo(IntList.of(4)));
+        assertThat(result2, equalTo(IntList.of(5)));
+    }
+
+    @Test
+    public void shouldCheckIfValueIsListForPresenceCheck() {
+        // given
+        Property<IntList> property1 = new IntListProperty("list.path.wrong");
+        Property<IntList> property2 = new IntListProperty("list.path.mixed");
+
+        // when
+        boolean result1 = property1.isPresent(resource);
+        boolean result2 = property2.isPresent(resource);
+
+        // then
+        assertThat(result1, equalTo(false));
+        assertThat(result2, equalTo(true));
+    }
+
+    @Test
+    public void shouldNotExposeInternalArray() {
+        // given
+        int[] values = {1, 2, 3};
+        IntList list = IntList.of(values);
+
+        // when
+        values[0] = 10;
+        list.toArray()[1] = 20;
+
+        // then
+        assertThat(list.toArray(), equalTo(new int[]{1, 2, 3}));
+        assertThat(list.stream().sum(), equalTo(6));
+    }
+
+    @Test
+    public void shouldImplementEqualsAndToString() {
+        // given
+        IntList list = IntList.of(1, 2, 3);
+
+        // when / then
+        assertThat(list, equalTo(IntList.of(1, 2, 3)));
+        assertThat(list.hashCode(), equalTo(IntList.of(1, 2, 3).hashCode()));
+        assertThat(list.equals(IntList.of(1, 2)), equalTo(false));
+        assertThat(list.equals(LongList.of(1, 2, 3)), equalTo(false));
+        assertThat(list.toString(), equalTo("[1, 2, 3]"));
+        assertThat(list.size(), equalTo(3));
+        assertThat(IntList.of().isEmpty(), equalTo(true));
+    }
+}
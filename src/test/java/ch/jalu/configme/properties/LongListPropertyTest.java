@@ -0,0 +1,113 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link LongListProperty} and {@link LongList}.
+ */
+public class LongListPropertyTest {
+
+    private static PropertyResource resource;
+
+    @BeforeClass
+    @SuppressWarnings("unchecked")
+    public static void setUpConfiguration() {
+        resource = mock(PropertyResource.class);
+        List numberList = Arrays.asList(3, 7L, 12.0);
+        when(resource.getList("list.path.numbers")).thenReturn(numberList);
+        when(resource.getList("list.path.wrong")).thenReturn(null);
+        List mixedList = Arrays.asList(1, "2", 3);
+        when(resource.getList("list.path.mixed")).thenReturn(mixedList);
+        List fractionList = Arrays.asList(1, 3.7);
+        when(resource.getList("list.path.fraction")).thenReturn(fractionList);
+        List outOfRangeList = Arrays.asList(1, new BigInteger("9223372036854775808"));
+        when(resource.getList("list.path.outOfRange")).thenReturn(outOfRangeList);
+    }
+
+    @Test
+    public void shouldGetLongListValue() {
+        // given
+        Property<LongList> property = new LongListProperty("list.path.numbers", 1L, 2L);
+
+        // when
+        LongList result = property.getValue(resource);
+
+        // then
+        assertThat(result, equalTo(LongList.of(3L, 7L, 12L)));
+        assertThat(result.size(), equalTo(3));
+        assertThat(result.get(2), equalTo(12L));
+        assertThat(result.contains(7L), equalTo(true));
+        assertThat(result.contains(8L), equalTo(false));
+    }
+
+    @Test
+    public void shouldGetDefaultForMissingOrMixedList() {
+        // given
+        Property<LongList> property1 = new LongListProperty("list.path.wrong", 4L, 5L);
+        Property<LongList> property2 = new LongListProperty("list.path.mixed", 6L);
+
+        // when
+        LongList result1 = property1.getValue(resource);
+        LongList result2 = property2.getValue(resource);
+
+        // then
+        assertThat(result1, equalTo(LongList.of(4L, 5L)));
+        assertThat(result2, equalTo(LongList.of(6L)));
+    }
+
+    @Test
+    public void shouldGetDefaultForFractionOrOutOfRangeNumbers() {
+        // given
+        Property<LongList> property1 = new LongListProperty("list.path.fraction", 4L);
+        Property<LongList> property2 = new LongListProperty("list.path.outOfRange", 5L);
+
+        // when
+        LongList result1 = property1.getValue(resource);
+        LongList result2 = property2.getValue(resource);
+
+        // then
+        assertThat(result1, equalTo(LongList.of(4L)));
+        assertThat(result2, equalTo(LongList.of(5L)));
+    }
+
+    @Test
+    public void shouldCheckIfValueIsListForPresenceCheck() {
+        // given
+        Property<LongList> property1 = new LongListProperty("list.path.wrong");
+        Property<LongList> property2 = new LongListProperty("list.path.mixed");
+
+        // when
+        boolean result1 = property1.isPresent(resource);
+        boolean result2 = property2.isPresent(resource);
+
+        // then
+        assertThat(result1, equalTo(false));
+        assertThat(result2, equalTo(true));
+    }
+
+    @Test
+    public void shouldNotExposeInternalArray() {
+        // given
+        long[] values = {1L, 2L, 3L};
+        LongList list = LongList.of(values);
+
+        // when
+        values[0] = 10L;
+        list.toArray()[1] = 20L;
+
+        // then
+        assertThat(list.toArray(), equalTo(new long[]{1L, 2L, 3L}));
+        assertThat(list.stream().sum(), equalTo(6L));
+    }
+}
@@ -0,0 +1,78 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static ch.jalu.configme.TestUtils.verifyException;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link LowercaseStringSetProperty}.
+ */
+public class LowercaseStringSetPropertyTest {
+
+    private static PropertyResource resource;
+
+    @BeforeClass
+    @SuppressWarnings("unchecked")
+    public static void setUpConfiguration() {
+        resource = mock(PropertyResource.class);
+        List stringList = Arrays.asList("test1", "Test2", "3rd TEST", "TEST1");
+        when(resource.getList("lowercaseset.path.test")).thenReturn(stringList);
+        when(resource.getList("lowercaseset.path.wrong")).thenReturn(null);
+        List mixedList = Arrays.asList("test1", "toast", 1);
+        when(resource.getList("lowercaseset.path.mixed")).thenReturn(mixedList);
+    }
+
+    @Test
+    public void shouldGetLowercaseStringSetValue() {
+        // given
+        Property<Set<String>> property = new LowercaseStringSetProperty("lowercaseset.path.test", "1", "b");
+
+        // when
+        Set<String> result = property.getValue(resource);
+
+        // then
+        assertThat(result, contains("test1", "test2", "3rd test"));
+        verifyException(() -> result.add("other"), UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldGetLowercaseDefaultForMissingOrMixedList() {
+        // given
+        Property<Set<String>> property1 = new LowercaseStringSetProperty("lowercaseset.path.wrong", "Default", "SET");
+        Property<Set<String>> property2 = new LowercaseStringSetProperty("lowercaseset.path.mixed", "elem");
+
+        // when
+        Set<String> result1 = property1.getValue(resource);
+        Set<String> result2 = property2.getValue(resource);
+
+        // then
+        assertThat(result1, contains("default", "set"));
+        assertThat(result2, contains("elem"));
+    }
+
+    @Test
+    public void shouldCheckIfValueIsListForPresenceCheck() {
+        // given
+        Property<Set<String>> property1 = new LowercaseStringSetProperty("lowercaseset.path.wrong");
+        Property<Set<String>> property2 = new LowercaseStringSetProperty("lowercaseset.path.mixed");
+
+        // when
+        boolean result1 = property1.isPresent(resource);
+        boolean result2 = property2.isPresent(resource);
+
+        // then
+        assertThat(result1, equalTo(false));
+        assertThat(result2, equalTo(true));
+    }
+}
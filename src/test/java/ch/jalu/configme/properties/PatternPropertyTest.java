@@ -0,0 +1,71 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link PatternProperty}.
+ */
+public class PatternPropertyTest {
+
+    private static final Pattern PATTERN = Pattern.compile("ab+c");
+    private static PropertyResource resource;
+
+    @BeforeClass
+    public static void setUpConfiguration() {
+        resource = mock(PropertyResource.class);
+        when(resource.getObject("pattern.path.string")).thenReturn("[a-z]+\\d");
+        when(resource.getObject("pattern.path.invalid")).thenReturn("[a-z");
+        when(resource.getObject("pattern.path.compiled")).thenReturn(PATTERN);
+        when(resource.getObject("pattern.path.number")).thenReturn(42);
+    }
+
+    @Test
+    public void shouldCompilePatternFromResource() {
+        // given
+        Property<Pattern> property = new PatternProperty("pattern.path.string", "x");
+
+        // when
+        Pattern result = property.getValue(resource);
+
+        // then
+        assertThat(result.pattern(), equalTo("[a-z]+\\d"));
+        assertThat(result.matcher("test3").matches(), equalTo(true));
+    }
+
+    @Test
+    public void shouldReturnPatternSetToResource() {
+        // given
+        Property<Pattern> property = new PatternProperty("pattern.path.compiled", "x");
+
+        // when
+        Pattern result = property.getValue(resource);
+
+        // then
+        assertThat(result, sameInstance(PATTERN));
+    }
+
+    @Test
+    public void shouldReturnDefaultForInvalidValues() {
+        // given
+        Property<Pattern> property1 = new PatternProperty("pattern.path.invalid", "def1");
+        Property<Pattern> property2 = new PatternProperty("pattern.path.number", "def2");
+
+        // when
+        Pattern result1 = property1.getValue(resource);
+        Pattern result2 = property2.getValue(resource);
+
+        // then
+        assertThat(result1.pattern(), equalTo("def1"));
+        assertThat(result2.pattern(), equalTo("def2"));
+    }
+}
@@ -0,0 +1,136 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.InMemoryResource;
+import ch.jalu.configme.resource.PropertyResource;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static ch.jalu.configme.properties.PropertyConstraint.length;
+import static ch.jalu.configme.properties.PropertyConstraint.matches;
+import static ch.jalu.configme.properties.PropertyConstraint.max;
+import static ch.jalu.configme.properties.PropertyConstraint.min;
+import static ch.jalu.configme.properties.PropertyConstraint.notBlank;
+import static ch.jalu.configme.properties.PropertyConstraint.notEmpty;
+import static ch.jalu.configme.properties.PropertyConstraint.range;
+import static ch.jalu.configme.properties.PropertyConstraint.satisfies;
+import static ch.jalu.configme.properties.PropertyConstraint.size;
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link PropertyConstraint} and the constraint handling of {@link Property}.
+ */
+public class PropertyConstraintTest {
+
+    @Test
+    public void shouldCheckNumbers() {
+        // given / when / then
+        assertThat(min(1).check(1), nullValue());
+        assertThat(min(1).check(0.5), equalTo("must be at least 1"));
+        assertThat(max(10).check(10L), nullValue());
+        assertThat(max(10).check(10.5), equalTo("must be at most 10"));
+        assertThat(range(1, 65535).check(8080), nullValue());
+        assertThat(range(1, 65535).check(70000), equalTo("must be between 1 and 65535"));
+    }
+
+    @Test
+    public void shouldCompareIntegralNumbersExactly() {
+        // given
+        long bound = (1L << 53) + 1;
+
+        // when / then
+        assertThat(min(bound).check(1L << 53), equalTo("must be at least 9007199254740993"));
+        assertThat(min(bound).check(bound), nullValue());
+        assertThat(max(Long.MAX_VALUE - 1).check(Long.MAX_VALUE), equalTo("must be at most 9223372036854775806"));
+        assertThat(range(0, bound).check(bound + 1), equalTo("must be between 0 and 9007199254740993"));
+        assertThat(max(bound).check(BigInteger.valueOf(bound)), nullValue());
+        assertThat(max(bound).check(new BigDecimal("9007199254740993.5")), equalTo("must be at most 9007199254740993"));
+        assertThat(min(bound).check(9007199254740992.0), equalTo("must be at least 9007199254740993"));
+        assertThat(max(Long.MAX_VALUE).check(0x1p63), equalTo("must be at most 9223372036854775807"));
+        assertThat(min(-1).check(-1.5), equalTo("must be at least -1"));
+        assertThat(max(-1).check(-0.5), equalTo("must be at most -1"));
+    }
+
+    @Test
+    public void shouldCheckNumbersWithDecimalBounds() {
+        // given / when / then
+        assertThat(min(0.5).check(0.5f), nullValue());
+        assertThat(min(0.5).check(0), equalTo("must be at least 0.5"));
+        assertThat(max(0.0).check(-0.0), nullValue());
+        assertThat(max(2.5).check(3L), equalTo("must be at most 2.5"));
+        assertThat(range(0.1, 0.9).check(new BigDecimal("0.95")), equalTo("must be between 0.1 and 0.9"));
+        assertThat(range(0.1, 0.9).check(0.9), nullValue());
+        assertThat(max(9.007199254740992E15).check((1L << 53) + 1), equalTo("must be at most 9.007199254740992E15"));
+        assertThat(max(Double.NaN).check(1), nullValue());
+        assertThat(max(1.0).check(Double.NaN), equalTo("must be at most 1.0"));
+    }
+
+    @Test
+    public void shouldCheckTexts() {
+        // given / when / then
+        assertThat(notBlank().check("a"), nullValue());
+        assertThat(notBlank().check("  "), equalTo("must not be blank"));
+        assertThat(matches("[a-z]+").check("abc"), nullValue());
+        assertThat(matches("[a-z]+").check("abc1"), equalTo("must match '[a-z]+'"));
+        assertThat(length(2, 3).check("abc"), nullValue());
+        assertThat(length(2, 3).check("abcd"), equalTo("must have a length between 2 and 3"));
+    }
+
+    @Test
+    public void shouldCheckCollectionsAndPredicates() {
+        // given / when / then
+        assertThat(notEmpty().check(Collections.singleton(1)), nullValue());
+        assertThat(notEmpty().check(Collections.emptyList()), equalTo("must not be empty"));
+        assertThat(size(1, 2).check(Arrays.asList(1, 2)), nullValue());
+        assertThat(size(1, 2).check(Arrays.asList(1, 2, 3)), equalTo("must have between 1 and 2 entries"));
+        PropertyConstraint<Integer> even = satisfies(i -> i % 2 == 0, "must be even");
+        assertThat(even.check(4), nullValue());
+        assertThat(even.check(3), equalTo("must be even"));
+    }
+
+    @Test
+    public void shouldReportAllViolationsOfProperty() {
+        // given
+        Property<String> property = newProperty("name", "bob")
+            .addConstraint(length(2, 5))
+            .addConstraint(matches("[a-z]+"));
+
+        // when
+        List<String> violations = property.checkConstraints("Alexander");
+        List<String> noViolations = property.checkConstraints("anna");
+
+        // then
+        assertThat(violations, contains("must have a length between 2 and 5", "must match '[a-z]+'"));
+        assertThat(noViolations, empty());
+        assertThat(property.getConstraints().size(), equalTo(2));
+    }
+
+    @Test
+    public void shouldUseDefaultValueForViolatingValue() {
+        // given
+        Property<Integer> port = newProperty("port", 8080).addConstraint(range(1, 65535));
+        Property<List<String>> hosts = newListProperty("hosts", "localhost").addConstraint(notEmpty());
+        PropertyResource resource = new InMemoryResource();
+        resource.setValue("port", 70000);
+        resource.setValue("hosts", Collections.emptyList());
+
+        // when
+        int portValue = port.getValue(resource);
+        List<String> hostsValue = hosts.getValue(resource);
+
+        // then
+        assertThat(portValue, equalTo(8080));
+        assertThat(hostsValue, contains("localhost"));
+        assertThat(port.isPresent(resource), equalTo(true));
+    }
+}
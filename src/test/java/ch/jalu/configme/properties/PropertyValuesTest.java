@@ -0,0 +1,120 @@
+package ch.jalu.configme.properties;
+
+import ch.jalu.configme.resource.PropertyResource;
+import ch.jalu.configme.resource.YamlFileResource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link PropertyValues}.
+ */
+public class PropertyValuesTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldResolveValuesAndReportMissingAndInvalidProperties() {
+        // given
+        PropertyResource resource = new YamlFileResource(copyFileFromResources("/config-sample.yml", temporaryFolder));
+        Property<Integer> duration = newProperty("test.duration", 4);
+        Property<Integer> invalid = newProperty("test.systemName", 3);
+        Property<String> missing = newProperty("test.doesNotExist", "def");
+        List<Property<?>> properties = Arrays.asList(duration, invalid, missing);
+
+        // when
+        PropertyValues values = PropertyValues.resolve(resource, properties);
+
+        // then
+        assertThat(values.get(duration), equalTo(22));
+        assertThat(values.get(invalid), equalTo(3));
+        assertThat(values.get(missing), equalTo("def"));
+        assertThat(values.getMissingProperties(), contains(missing));
+        assertThat(values.getInvalidProperties(), contains(invalid));
+        assertThat(values.contains(newProperty("test.duration", 4)), equalTo(false));
+        assertThat(values.get(newProperty("test.duration", 4)), nullValue());
+    }
+
+    @Test
+    public void shouldResolveAffectedPropertiesAgain() {
+        // given
+        PropertyResource resource = new YamlFileResource(copyFileFromResources("/config-sample.yml", temporaryFolder));
+        Property<Integer> duration = newProperty("test.duration", 4);
+        Property<String> missing = newProperty("test.other", "def");
+        Property<Integer> version = newProperty("version", 3);
+        PropertyValues values = PropertyValues.resolve(resource, Arrays.asList(duration, missing, version));
+        resource.setValue("test.other", "set");
+        resource.setValue("version", 5);
+
+        // when
+        PropertyValues newValues = values.withUpdatedPath(resource, "test.other");
+
+        // then
+        assertThat(newValues.get(missing), equalTo("set"));
+        assertThat(newValues.get(duration), equalTo(22));
+        assertThat(newValues.get(version), equalTo(2492));
+        assertThat(newValues.getMissingProperties(), empty());
+        assertThat(values.get(missing), equalTo("def"));
+        assertThat(values.getMissingProperties(), contains(missing));
+    }
+
+    @Test
+    public void shouldKeepValuesOfOtherPropertiesPerSnapshot() {
+        // given
+        PropertyResource resource = new YamlFileResource(copyFileFromResources("/config-sample.yml", temporaryFolder));
+        Property<Integer> duration = newProperty("test.duration", 4);
+        Property<String> other = newProperty("test.systemName", "def");
+        PropertyValues values = PropertyValues.resolve(resource, Arrays.asList(duration));
+        String initialName = values.getOrResolve(other, resource);
+
+        // when
+        resource.setValue("test.systemName", "changed");
+        PropertyValues updatedValues = values.withUpdatedPath(resource, "test.systemName");
+
+        // then
+        assertThat(values.getOrResolve(duration, resource), equalTo(22));
+        assertThat(values.getOrResolve(other, resource), equalTo(initialName));
+        assertThat(updatedValues.getOrResolve(other, resource), equalTo("changed"));
+        assertThat(updatedValues.contains(other), equalTo(false));
+    }
+
+    @Test
+    public void shouldCollectConstraintViolations() {
+        // given
+        PropertyResource resource = new YamlFileResource(copyFileFromResources("/config-sample.yml", temporaryFolder));
+        Property<Integer> duration = newProperty("test.duration", 4).addConstraint(PropertyConstraint.max(10));
+        Property<Integer> version = newProperty("version", 3).addConstraint(PropertyConstraint.min(1));
+
+        // when
+        PropertyValues values = PropertyValues.resolve(resource, Arrays.asList(duration, version));
+        resource.setValue("test.duration", 8);
+        PropertyValues newValues = values.withUpdatedPath(resource, "test.duration");
+
+        // then
+        assertThat(values.get(duration), equalTo(4));
+        assertThat(values.get(version), equalTo(2492));
+        assertThat(values.getInvalidProperties(), contains(duration));
+        assertThat(values.getConstraintViolations(), hasSize(1));
+        ConstraintViolation violation = values.getConstraintViolations().get(0);
+        assertThat(violation.getPath(), equalTo("test.duration"));
+        assertThat(violation.getValue(), equalTo(22));
+        assertThat(violation.toString(), equalTo("Value '22' at 'test.duration' must be at most 10"));
+
+        assertThat(newValues.get(duration), equalTo(8));
+        assertThat(newValues.getInvalidProperties(), empty());
+        assertThat(newValues.getConstraintViolations(), empty());
+    }
+}
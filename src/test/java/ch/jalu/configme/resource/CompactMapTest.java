@@ -0,0 +1,70 @@
+package ch.jalu.configme.resource;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link CompactMap}.
+ */
+public class CompactMapTest {
+
+    @Test
+    public void shouldLookUpEntriesOfSmallAndLargeMaps() {
+        for (int size : new int[]{ 1, 5, 8, 9, 40, 1000 }) {
+            // given
+            Map<Object, Object> source = new LinkedHashMap<>();
+            for (int i = 0; i < size; ++i) {
+                source.put("key" + i, i);
+            }
+            source.put(17, "number key");
+            source.put("nullValue", null);
+
+            // when
+            CompactMap map = CompactMap.copyOf(source);
+
+            // then
+            assertThat(map, equalTo(source));
+            assertThat(map.hashCode(), equalTo(source.hashCode()));
+            assertThat(map.keySet(), contains(source.keySet().toArray()));
+            for (int i = 0; i < size; ++i) {
+                assertThat(map.get("key" + i), equalTo(i));
+            }
+            assertThat(map.get(17), equalTo("number key"));
+            assertThat(map.containsKey("nullValue"), equalTo(true));
+            assertThat(map.get("nullValue"), nullValue());
+            assertThat(map.containsKey("other"), equalTo(false));
+            assertThat(map.get(null), nullValue());
+        }
+    }
+
+    @Test
+    public void shouldReturnEmptyInstance() {
+        // given / when
+        CompactMap map = CompactMap.copyOf(new LinkedHashMap<>());
+
+        // then
+        assertThat(map, sameInstance(CompactMap.EMPTY));
+        assertThat(map.isEmpty(), equalTo(true));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowModification() {
+        // given
+        Map<Object, Object> source = new LinkedHashMap<>();
+        source.put("a", 1);
+        CompactMap map = CompactMap.copyOf(source);
+
+        // when
+        map.put("b", 2);
+
+        // then - expect exception
+    }
+}
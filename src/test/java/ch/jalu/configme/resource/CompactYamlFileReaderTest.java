@@ -0,0 +1,67 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.beanmapper.leafproperties.LeafPropertiesGenerator;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static ch.jalu.configme.TestUtils.getJarFile;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link CompactYamlFileReader}.
+ */
+public class CompactYamlFileReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadSameValuesAsDefaultReader() {
+        // given
+        File file = getJarFile("/config-sample.yml");
+
+        // when
+        CompactYamlFileReader reader = new CompactYamlFileReader(file);
+
+        // then
+        assertThat(reader.getObject(""), equalTo(new YamlFileReader(file).getObject("")));
+        assertThat(reader.getObject(""), instanceOf(CompactMap.class));
+        assertThat(reader.getObject("features.cool"), instanceOf(CompactMap.class));
+        assertThat(reader.getObject("features.cool.options"), instanceOf(CompactList.class));
+    }
+
+    @Test
+    public void shouldSetValuesAndExport() {
+        // given
+        File file = copyFileFromResources("/config-sample.yml", temporaryFolder);
+        YamlFileResource resource = new YamlFileResource(file, new CompactYamlFileReader(file),
+            new LeafPropertiesGenerator());
+        ConfigurationData configurationData = ConfigurationDataBuilder.collectData(TestConfiguration.class);
+
+        // when
+        resource.setValue("features.cool.options", Arrays.asList("Fireworks"));
+        resource.setValue("test.duration", 30);
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(TestConfiguration.COOL_OPTIONS.getValue(resource), contains("Fireworks"));
+        assertThat(TestConfiguration.USE_COOL_FEATURES.getValue(resource), equalTo(true));
+        YamlFileResource exported = new YamlFileResource(file);
+        List<?> options = exported.getList("features.cool.options");
+        assertThat(options, contains("Fireworks"));
+        assertThat(exported.getInt("test.duration"), equalTo(30));
+        assertThat(exported.getString("test.systemName"), equalTo("Custom sys name"));
+    }
+}
@@ -0,0 +1,165 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link EnvironmentPropertyResource}.
+ */
+public class EnvironmentPropertyResourceTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldMapPathsWithDefaultNamingSchemes() {
+        // given
+        Function<String, String> envNaming = EnvironmentPropertyResource.environmentVariableNaming("app");
+        Function<String, String> sysNaming = EnvironmentPropertyResource.systemPropertyNaming("app");
+
+        // when / then
+        assertThat(envNaming.apply("server.maxPlayers"), equalTo("APP_SERVER_MAX_PLAYERS"));
+        assertThat(envNaming.apply("data-source.URL"), equalTo("APP_DATA_SOURCE_URL"));
+        assertThat(EnvironmentPropertyResource.environmentVariableNaming("").apply("a.b"), equalTo("A_B"));
+        assertThat(sysNaming.apply("server.maxPlayers"), equalTo("app.server.maxPlayers"));
+    }
+
+    @Test
+    public void shouldResolveValuesOfProperties() {
+        // given
+        Property<Integer> port = newProperty("server.port", 80);
+        Property<String> name = newProperty("server.name", "");
+        Property<Boolean> enabled = newProperty("server.enabled", false);
+        Property<List<String>> tags = newListProperty("server.tags");
+        Property<String> missing = newProperty("server.missing", "");
+        Map<String, String> environment = new HashMap<>();
+        environment.put("APP_SERVER_PORT", "8080");
+        environment.put("APP_SERVER_NAME", "1234");
+        environment.put("APP_SERVER_ENABLED", "false");
+        environment.put("APP_SERVER_TAGS", "[a, b]");
+        Map<String, String> systemProperties = new HashMap<>();
+        systemProperties.put("app.server.enabled", "true");
+
+        // when
+        EnvironmentPropertyResource resource = createResource(
+            Arrays.asList(port, name, enabled, tags, missing), environment, systemProperties);
+
+        // then
+        assertThat(port.getValue(resource), equalTo(8080));
+        assertThat(name.getValue(resource), equalTo("1234"));
+        assertThat(enabled.getValue(resource), equalTo(true));
+        assertThat(tags.getValue(resource), contains("a", "b"));
+        assertThat(resource.contains("server.missing"), equalTo(false));
+    }
+
+    @Test
+    public void shouldConvertValuesByTypeOfProperty() {
+        // given
+        Property<String> name = newProperty("name", "");
+        Property<String> greeting = newProperty("greeting", "");
+        Property<String> answer = newProperty("answer", "");
+        Property<Integer> mode = newProperty("mode", 0);
+        Property<Boolean> enabled = newProperty("enabled", false);
+        Property<List<String>> tags = newListProperty("tags");
+        Map<String, String> environment = new HashMap<>();
+        environment.put("APP_NAME", "0777");
+        environment.put("APP_GREETING", "Hello: world");
+        environment.put("APP_ANSWER", "yes");
+        environment.put("APP_MODE", "0777");
+        environment.put("APP_ENABLED", "on");
+        environment.put("APP_TAGS", "[1, true, x]");
+
+        // when
+        EnvironmentPropertyResource resource = createResource(
+            Arrays.asList(name, greeting, answer, mode, enabled, tags), environment, new HashMap<>());
+
+        // then
+        assertThat(name.getValue(resource), equalTo("0777"));
+        assertThat(greeting.getValue(resource), equalTo("Hello: world"));
+        assertThat(answer.getValue(resource), equalTo("yes"));
+        assertThat(mode.getValue(resource), equalTo(777));
+        assertThat(enabled.getValue(resource), equalTo(true));
+        assertThat(tags.getValue(resource), contains("1", "true", "x"));
+    }
+
+    @Test
+    public void shouldNotConstructArbitraryClassesFromTags() {
+        // given
+        Property<String> name = newProperty("server.name", "");
+        String value = "!!" + InstantiationProbe.class.getName() + " {}";
+        Map<String, String> environment = new HashMap<>();
+        environment.put("APP_SERVER_NAME", value);
+        InstantiationProbe.instances = 0;
+
+        // when
+        EnvironmentPropertyResource resource = createResource(
+            Arrays.asList(name), environment, new HashMap<>());
+
+        // then
+        assertThat(InstantiationProbe.instances, equalTo(0));
+        assertThat(name.getValue(resource), equalTo(value));
+    }
+
+    @Test
+    public void shouldOverrideFileValuesInLayeredResource() throws IOException {
+        // given
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "server:\n  port: 80\n  name: 'srv'".getBytes(StandardCharsets.UTF_8));
+        Property<Integer> port = newProperty("server.port", 0);
+        Property<String> name = newProperty("server.name", "");
+        Map<String, String> environment = new HashMap<>();
+        environment.put("APP_SERVER_PORT", "8080");
+        EnvironmentPropertyResource envResource =
+            createResource(Arrays.asList(port, name), environment, new HashMap<>());
+        LayeredPropertyResource resource =
+            new LayeredPropertyResource(Arrays.asList(new YamlFileResource(file), envResource), 0);
+
+        // when
+        resource.setValue("server.name", "new");
+        resource.exportProperties(new ConfigurationData(Arrays.asList(port, name)));
+
+        // then
+        assertThat(port.getValue(resource), equalTo(8080));
+        assertThat(name.getValue(resource), equalTo("new"));
+        YamlFileResource exported = new YamlFileResource(file);
+        assertThat(exported.getInt("server.port"), equalTo(80));
+        assertThat(exported.getString("server.name"), equalTo("new"));
+    }
+
+    private static EnvironmentPropertyResource createResource(List<Property<?>> properties,
+                                                              Map<String, String> environment,
+                                                              Map<String, String> systemProperties) {
+        return new EnvironmentPropertyResource(properties,
+            EnvironmentPropertyResource.environmentVariableNaming("app"),
+            EnvironmentPropertyResource.systemPropertyNaming("app"),
+            environment::get, systemProperties::get);
+    }
+
+    public static final class InstantiationProbe {
+
+        static int instances;
+
+        public InstantiationProbe() {
+            ++instances;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.StringProperty;
+import ch.jalu.configme.resource.PropertyPathTraverser.PathElement;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static ch.jalu.configme.TestUtils.transform;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link ExportLayout} and its usage in {@link PropertyPathTraverser}.
+ */
+public class ExportLayoutTest {
+
+    @Test
+    public void shouldShareElementsOfKnownSections() {
+        // given
+        ConfigurationData configurationData = ConfigurationDataBuilder.collectData(TestConfiguration.class);
+        ExportLayout layout = new ExportLayout(configurationData);
+        Property<?> durationProperty = TestConfiguration.DURATION_IN_SECONDS;
+        Property<?> unknownProperty = new StringProperty("sample.ratio.unknown.entry", "");
+
+        // when
+        PathElement[] knownElements = layout.getPathElements(durationProperty);
+        PathElement[] unknownElements = layout.getPathElements(unknownProperty);
+
+        // then
+        assertThat(transform(Arrays.asList(knownElements), e -> e.name), contains("test", "duration"));
+        assertThat(transform(Arrays.asList(unknownElements), e -> e.name),
+            contains("sample", "ratio", "unknown", "entry"));
+        PathElement[] ratioElements = layout.getPathElements(TestConfiguration.RATIO_ORDER);
+        assertThat(unknownElements[0], sameInstance(ratioElements[0]));
+        assertThat(unknownElements[1], sameInstance(ratioElements[1]));
+        assertThat(transform(Arrays.asList(unknownElements), e -> e.indentationLevel), contains(0, 1, 2, 3));
+        assertThat(layout.getConfigurationData(), sameInstance(configurationData));
+    }
+
+    @Test
+    public void shouldReturnNewPathElementsWithRootComments() {
+        // given
+        Property<?> first = new StringProperty("a.b.c", "");
+        Property<?> second = new StringProperty("a.b.d", "");
+        Property<?> third = new StringProperty("a.e", "");
+        Map<String, String[]> comments = new HashMap<>();
+        comments.put("", new String[]{"root"});
+        comments.put("a", new String[]{"section a"});
+        ConfigurationData configurationData = new ConfigurationData(Arrays.asList(first, second, third), comments);
+        PropertyPathTraverser traverser = new PropertyPathTraverser(configurationData);
+
+        // when
+        List<PathElement> firstElements = traverser.getPathElements(first);
+        List<PathElement> secondElements = traverser.getPathElements(second);
+        List<PathElement> thirdElements = traverser.getPathElements(third);
+
+        // then
+        assertThat(transform(firstElements, e -> e.name), contains("a", "b", "c"));
+        assertThat(firstElements.get(0).comments, arrayContaining("root", "section a"));
+        assertThat(firstElements.get(1).comments, emptyArray());
+        assertThat(transform(secondElements, e -> e.name), contains("d"));
+        assertThat(transform(thirdElements, e -> e.name), contains("e"));
+        assertThat(thirdElements.get(0).indentationLevel, equalTo(1));
+    }
+}
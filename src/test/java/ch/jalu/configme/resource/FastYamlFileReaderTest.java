@@ -0,0 +1,143 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.beanmapper.leafproperties.LeafPropertiesGenerator;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.samples.TestConfiguration;
+import ch.jalu.configme.samples.TestEnum;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link FastYamlFileReader}.
+ */
+public class FastYamlFileReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadExportedFileWithSpecializedParser() {
+        // given
+        File file = copyFileFromResources("/config-sample.yml", temporaryFolder);
+        ConfigurationData configurationData = ConfigurationDataBuilder.collectData(TestConfiguration.class);
+        new YamlFileResource(file).exportProperties(configurationData);
+
+        // when
+        FastYamlFileReader reader = new FastYamlFileReader(file);
+
+        // then
+        assertThat(reader.getFastLoadCount(), equalTo(1L));
+        assertThat(reader.getFallbackLoadCount(), equalTo(0L));
+        assertThat(reader.getObject(""), equalTo(new YamlFileReader(file).getObject("")));
+        assertThat(reader.getObject("sample.ratio.fields"),
+            equalTo(Arrays.asList("Australia", "Burundi", "Colombia")));
+    }
+
+    @Test
+    public void shouldFallBackToSnakeYamlForUnsupportedSyntax() throws IOException {
+        // given
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "base: &b\n  size: 3\ncopy: *b\nflow: [1, 2]\n".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        FastYamlFileReader reader = new FastYamlFileReader(file);
+
+        // then
+        assertThat(reader.getFallbackLoadCount(), equalTo(1L));
+        assertThat(reader.getObject("copy.size"), equalTo(3));
+        assertThat(reader.getObject(""), equalTo(new YamlFileReader(file).getObject("")));
+    }
+
+    @Test
+    public void shouldCountLoadsOnReload() throws IOException {
+        // given
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "a: 1\n".getBytes(StandardCharsets.UTF_8));
+        FastYamlFileReader reader = new FastYamlFileReader(file);
+        Files.write(file.toPath(), "a: yes\n".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        reader.reload();
+
+        // then
+        assertThat(reader.getFastLoadCount(), equalTo(1L));
+        assertThat(reader.getFallbackLoadCount(), equalTo(1L));
+        assertThat(reader.getObject("a"), equalTo(true));
+    }
+
+    @Test
+    public void shouldResolveValuesWithSchemaOfConfigurationData() throws IOException {
+        // given
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "test:\n  duration: 5\n  systemName: 1234\n".getBytes(StandardCharsets.UTF_8));
+        ConfigurationData configurationData = ConfigurationDataBuilder.collectData(TestConfiguration.class);
+
+        // when
+        FastYamlFileReader reader = new FastYamlFileReader(file, null, configurationData);
+        YamlFileResource resource = new YamlFileResource(file, reader, new LeafPropertiesGenerator());
+
+        // then
+        assertThat(reader.getFastLoadCount(), equalTo(1L));
+        assertThat(TestConfiguration.DURATION_IN_SECONDS.getValue(resource), equalTo(5));
+        assertThat(TestConfiguration.SYSTEM_NAME.getValue(resource), equalTo("1234"));
+    }
+
+    @Test
+    public void shouldApplySchemaToValuesLoadedWithSnakeYaml() throws IOException {
+        // given
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), ("test:\n  duration: 5\n  systemName: 1234\n"
+            + "sample:\n  ratio:\n    fields: [12, true, Chile]\n").getBytes(StandardCharsets.UTF_8));
+        ConfigurationData configurationData = ConfigurationDataBuilder.collectData(TestConfiguration.class);
+
+        // when
+        FastYamlFileReader reader = new FastYamlFileReader(file, null, configurationData);
+        YamlFileResource resource = new YamlFileResource(file, reader, new LeafPropertiesGenerator());
+
+        // then
+        assertThat(reader.getFallbackLoadCount(), equalTo(1L));
+        assertThat(TestConfiguration.DURATION_IN_SECONDS.getValue(resource), equalTo(5));
+        assertThat(TestConfiguration.SYSTEM_NAME.getValue(resource), equalTo("1234"));
+        assertThat(TestConfiguration.RATIO_FIELDS.getValue(resource), equalTo(Arrays.asList("12", "true", "Chile")));
+    }
+
+    @Test
+    public void shouldLoadSameValuesWithSchemaForEitherParser() throws IOException {
+        // given
+        String text = "test:\n  duration: 5\n  systemName: 1.50\n"
+            + "sample:\n  ratio:\n    order: third\n    fields:\n    - 12\n    - false\n"
+            + "features:\n  boring:\n    skip: true\n    dustLevel: 1234\n";
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        File fileWithUnsupportedSyntax = temporaryFolder.newFile();
+        Files.write(fileWithUnsupportedSyntax.toPath(),
+            (text + "other: &anchor 3\n").getBytes(StandardCharsets.UTF_8));
+        ConfigurationData configurationData = ConfigurationDataBuilder.collectData(TestConfiguration.class);
+
+        // when
+        FastYamlFileReader reader = new FastYamlFileReader(file, null, configurationData);
+        FastYamlFileReader fallbackReader = new FastYamlFileReader(fileWithUnsupportedSyntax, null, configurationData);
+
+        // then
+        assertThat(reader.getFastLoadCount(), equalTo(1L));
+        assertThat(fallbackReader.getFallbackLoadCount(), equalTo(1L));
+        for (String path : Arrays.asList("test", "sample", "features")) {
+            assertThat(reader.getObject(path), equalTo(fallbackReader.getObject(path)));
+        }
+        assertThat(reader.getObject("test.systemName"), equalTo("1.5"));
+        assertThat(reader.getObject("sample.ratio.order"), equalTo(TestEnum.THIRD));
+        assertThat(reader.getObject("sample.ratio.fields"), equalTo(Arrays.asList("12", "false")));
+    }
+}
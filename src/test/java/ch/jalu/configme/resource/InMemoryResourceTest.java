@@ -0,0 +1,100 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static ch.jalu.configme.TestUtils.getJarFile;
+import static ch.jalu.configme.TestUtils.verifyException;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link InMemoryResource}.
+ */
+public class InMemoryResourceTest {
+
+    @Test
+    public void shouldCreateResourceFromMap() {
+        // given
+        Map<String, Object> server = new HashMap<>();
+        server.put("port", 8080);
+        server.put("tags", Arrays.asList("a", "b"));
+        Map<String, Object> values = new HashMap<>();
+        values.put("server", server);
+
+        // when
+        InMemoryResource resource = new InMemoryResource(values);
+        server.put("port", 9000);
+
+        // then
+        assertThat(resource.getInt("server.port"), equalTo(8080));
+        assertThat(resource.getList("server.tags"), contains("a", "b"));
+        assertThat(resource.getMap("server").keySet(), contains("port", "tags"));
+        assertThat(resource.getString("server.port"), nullValue());
+        assertThat(resource.contains("server.other"), equalTo(false));
+    }
+
+    @Test
+    public void shouldCopyOtherResource() {
+        // given
+        PropertyResource yamlResource = new YamlFileResource(getJarFile("/config-sample.yml"));
+
+        // when
+        InMemoryResource resource = InMemoryResource.copyOf(yamlResource);
+
+        // then
+        assertThat(TestConfiguration.DURATION_IN_SECONDS.getValue(resource), equalTo(22));
+        assertThat(TestConfiguration.COOL_OPTIONS.getValue(resource),
+            contains("Dinosaurs", "Explosions", "Big trucks"));
+        assertThat(resource.getObject(""), equalTo(yamlResource.getObject("")));
+    }
+
+    @Test
+    public void shouldSetValuesLikeYamlFileReader() {
+        // given
+        InMemoryResource resource = new InMemoryResource();
+
+        // when
+        resource.setValue("a.b.c", 3);
+        resource.setValue("a.d", "test");
+        resource.setValue("a.d.e", true);
+        resource.setValue("x.y", null);
+
+        // then
+        assertThat(resource.getInt("a.b.c"), equalTo(3));
+        assertThat(resource.getBoolean("a.d.e"), equalTo(true));
+        assertThat(resource.getMap("a").keySet(), contains("b", "d"));
+        assertThat(resource.getMap("x").isEmpty(), equalTo(true));
+
+        // when (2)
+        resource.setValue("a.b", null);
+
+        // then (2)
+        assertThat(resource.contains("a.b"), equalTo(false));
+        assertThat(resource.contains("a.b.c"), equalTo(false));
+        assertThat(resource.getMap("a").keySet(), contains("d"));
+    }
+
+    @Test
+    public void shouldHandleObjectAtRoot() {
+        // given
+        InMemoryResource resource = new InMemoryResource();
+        resource.setValue("a", 1);
+        Object bean = new Object();
+
+        // when
+        resource.setValue("", bean);
+
+        // then
+        assertThat(resource.getObject(""), equalTo(bean));
+        assertThat(resource.contains("a"), equalTo(false));
+        verifyException(() -> resource.setValue("a", 2), ConfigMeException.class, "The root path is a bean property");
+    }
+}
@@ -0,0 +1,202 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.samples.TestEnum;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link IncrementalYamlFileResource}.
+ */
+public class IncrementalYamlFileResourceTest {
+
+    private static final Property<String> NAME = newProperty("server.name", "default");
+    private static final Property<Integer> PORT = newProperty("server.port", 80);
+    private static final Property<TestEnum> ENUM = newProperty(TestEnum.class, "server.mode", TestEnum.FIRST);
+    private static final Property<List<String>> USERS = newListProperty("users", "admin");
+
+    private static final String CONTENT = "# Server settings\n"
+        + "server:\n"
+        + "    name: \"Äpfel\"   # the name\n"
+        + "    port: 8080\n"
+        + "    mode: SECOND\n"
+        + "\n"
+        + "# Users\n"
+        + "users:\n"
+        + "  - bob\n"
+        + "  - ann\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReplaceChangedValuesOnly() throws IOException {
+        // given
+        File file = createFile(CONTENT);
+        IncrementalYamlFileResource resource = new IncrementalYamlFileResource(file);
+        resource.setValue("server.port", 9090);
+        resource.setValue("server.mode", TestEnum.THIRD);
+
+        // when
+        resource.exportProperties(new ConfigurationData(Arrays.asList(NAME, PORT, ENUM, USERS)));
+
+        // then
+        assertThat(readFile(file), equalTo(CONTENT
+            .replace("8080", "9090")
+            .replace("SECOND", "'THIRD'")));
+        assertThat(resource.getIncrementalSaveCount(), equalTo(1L));
+        assertThat(resource.getFullSaveCount(), equalTo(0L));
+    }
+
+    @Test
+    public void shouldReplaceValuesAfterNonAsciiCharactersAndKeepTrackOfPositions() throws IOException {
+        // given
+        File file = createFile(CONTENT);
+        IncrementalYamlFileResource resource = new IncrementalYamlFileResource(file);
+        ConfigurationData configurationData = new ConfigurationData(Arrays.asList(NAME, PORT, ENUM, USERS));
+
+        // when
+        resource.setValue("server.name", "Birnen und Äpfel");
+        resource.exportProperties(configurationData);
+        resource.setValue("server.port", 443);
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(readFile(file), equalTo(CONTENT
+            .replace("\"Äpfel\"", "'Birnen und Äpfel'")
+            .replace("8080", "443")));
+        assertThat(resource.getIncrementalSaveCount(), equalTo(2L));
+        resource.reload();
+        assertThat(NAME.getValue(resource), equalTo("Birnen und Äpfel"));
+        assertThat(PORT.getValue(resource), equalTo(443));
+        assertThat(USERS.getValue(resource), contains("bob", "ann"));
+    }
+
+    @Test
+    public void shouldNotWriteUnchangedValues() throws IOException {
+        // given
+        File file = createFile(CONTENT);
+        IncrementalYamlFileResource resource = new IncrementalYamlFileResource(file);
+
+        // when
+        resource.exportProperties(new ConfigurationData(Arrays.asList(NAME, PORT, ENUM, USERS)));
+
+        // then
+        assertThat(readFile(file), equalTo(CONTENT));
+        assertThat(resource.getIncrementalSaveCount(), equalTo(1L));
+    }
+
+    @Test
+    public void shouldExportEntirelyForChangedList() throws IOException {
+        // given
+        File file = createFile(CONTENT);
+        IncrementalYamlFileResource resource = new IncrementalYamlFileResource(file);
+        resource.setValue("users", Arrays.asList("bob", "ann", "eve"));
+
+        // when
+        resource.exportProperties(new ConfigurationData(Arrays.asList(NAME, PORT, ENUM, USERS)));
+
+        // then
+        assertThat(resource.getFullSaveCount(), equalTo(1L));
+        assertThat(readFile(file).contains("# Users"), equalTo(false));
+        resource.reload();
+        assertThat(USERS.getValue(resource), contains("bob", "ann", "eve"));
+
+        // Values can be replaced again after the full export
+        resource.setValue("server.port", 1234);
+        resource.exportProperties(new ConfigurationData(Arrays.asList(NAME, PORT, ENUM, USERS)));
+        assertThat(resource.getIncrementalSaveCount(), equalTo(1L));
+        resource.reload();
+        assertThat(PORT.getValue(resource), equalTo(1234));
+    }
+
+    @Test
+    public void shouldExportEntirelyIfStructureChanges() throws IOException {
+        // given
+        File file = createFile(CONTENT);
+        IncrementalYamlFileResource resource = new IncrementalYamlFileResource(file);
+        Property<Boolean> newProperty = newProperty("server.enabled", true);
+
+        // when
+        resource.exportProperties(new ConfigurationData(Arrays.asList(NAME, PORT, newProperty, ENUM, USERS)));
+
+        // then
+        assertThat(resource.getFullSaveCount(), equalTo(1L));
+        resource.reload();
+        assertThat(newProperty.getValue(resource), equalTo(true));
+        assertThat(PORT.getValue(resource), equalTo(8080));
+    }
+
+    @Test
+    public void shouldExportEntirelyIfFileHasUnknownValues() throws IOException {
+        // given
+        File file = createFile(CONTENT);
+        IncrementalYamlFileResource resource = new IncrementalYamlFileResource(file);
+
+        // when
+        resource.exportProperties(new ConfigurationData(Arrays.asList(NAME, PORT, ENUM)));
+
+        // then
+        assertThat(resource.getFullSaveCount(), equalTo(1L));
+        assertThat(readFile(file).contains("users"), equalTo(false));
+    }
+
+    @Test
+    public void shouldExportEntirelyIfFileWasModified() throws IOException {
+        // given
+        File file = createFile(CONTENT);
+        IncrementalYamlFileResource resource = new IncrementalYamlFileResource(file);
+        Files.write(file.toPath(), (CONTENT + "\n# more\n").getBytes(StandardCharsets.UTF_8));
+        resource.setValue("server.port", 9090);
+
+        // when
+        resource.exportProperties(new ConfigurationData(Arrays.asList(NAME, PORT, ENUM, USERS)));
+
+        // then
+        assertThat(resource.getFullSaveCount(), equalTo(1L));
+        resource.reload();
+        assertThat(PORT.getValue(resource), equalTo(9090));
+    }
+
+    @Test
+    public void shouldExportEntirelyForDocumentWithAliases() throws IOException {
+        // given
+        File file = createFile("server:\n  name: &n test\n  port: 8080\n  mode: FIRST\nusers:\n  - *n\n");
+        IncrementalYamlFileResource resource = new IncrementalYamlFileResource(file);
+        resource.setValue("server.port", 9090);
+
+        // when
+        resource.exportProperties(new ConfigurationData(Arrays.asList(NAME, PORT, ENUM, USERS)));
+
+        // then
+        assertThat(resource.getFullSaveCount(), equalTo(1L));
+        resource.reload();
+        assertThat(PORT.getValue(resource), equalTo(9090));
+        assertThat(USERS.getValue(resource), contains("test"));
+    }
+
+    private File createFile(String content) throws IOException {
+        File file = temporaryFolder.newFile("config.yml");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String readFile(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
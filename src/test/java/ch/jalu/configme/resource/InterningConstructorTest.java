@@ -0,0 +1,63 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.utils.StringInterner;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static ch.jalu.configme.TestUtils.getJarFile;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link InterningConstructor} and its usage in {@link YamlFileReader}.
+ */
+public class InterningConstructorTest {
+
+    @Test
+    public void shouldDeduplicateStringsOfSimilarFiles() {
+        // given
+        File file = getJarFile("/config-sample.yml");
+        StringInterner interner = new StringInterner(100, 64);
+
+        // when
+        YamlFileReader reader1 = new YamlFileReader(file, interner);
+        YamlFileReader reader2 = new YamlFileReader(file, interner);
+        YamlFileReader plainReader1 = new YamlFileReader(file);
+        YamlFileReader plainReader2 = new YamlFileReader(file);
+
+        // then
+        int internedCount = countDistinctStrings(reader1.getObject(""), reader2.getObject(""));
+        int plainCount = countDistinctStrings(plainReader1.getObject(""), plainReader2.getObject(""));
+        assertThat(internedCount, lessThan(plainCount));
+        assertThat(internedCount * 2, equalTo(plainCount));
+        assertThat(reader1.getObject(""), equalTo(plainReader1.getObject("")));
+    }
+
+    private static int countDistinctStrings(Object... roots) {
+        Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object root : roots) {
+            collectStrings(root, strings);
+        }
+        return strings.size();
+    }
+
+    private static void collectStrings(Object value, Set<String> strings) {
+        if (value instanceof String) {
+            strings.add((String) value);
+        } else if (value instanceof Map<?, ?>) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                collectStrings(entry.getKey(), strings);
+                collectStrings(entry.getValue(), strings);
+            }
+        } else if (value instanceof List<?>) {
+            ((List<?>) value).forEach(v -> collectStrings(v, strings));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static ch.jalu.configme.TestUtils.verifyException;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link LayeredPropertyResource}.
+ */
+public class LayeredPropertyResourceTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldMergeLayers() throws IOException {
+        // given
+        File defaults = createFile("server:\n  port: 80\n  host: 'localhost'\nname: 'default'\nlist: [a, b]");
+        File overrides = createFile("server:\n  port: 8080\nlist: [c]");
+
+        // when
+        LayeredPropertyResource resource = new LayeredPropertyResource(
+            Arrays.asList(new YamlFileResource(defaults), new YamlFileResource(overrides)));
+
+        // then
+        assertThat(resource.getInt("server.port"), equalTo(8080));
+        assertThat(resource.getString("server.host"), equalTo("localhost"));
+        assertThat(resource.getString("name"), equalTo("default"));
+        assertThat(resource.getList("list"), contains("c"));
+        assertThat(resource.getMap("server").keySet(), contains("port", "host"));
+        assertThat(resource.contains("server.other"), equalTo(false));
+        assertThat(resource.getInt("server.host"), nullValue());
+    }
+
+    @Test
+    public void shouldReloadSingleLayer() throws IOException {
+        // given
+        File defaults = createFile("server:\n  port: 80\nname: 'default'");
+        File overrides = createFile("server:\n  port: 8080");
+        LayeredPropertyResource resource = new LayeredPropertyResource(
+            Arrays.asList(new YamlFileResource(defaults), new YamlFileResource(overrides)));
+        Files.write(overrides.toPath(), "name: 'node'".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        resource.reloadLayer(1);
+
+        // then
+        assertThat(resource.getInt("server.port"), equalTo(80));
+        assertThat(resource.getString("name"), equalTo("node"));
+    }
+
+    @Test
+    public void shouldSetValueInTopLayerAndExportOnlyItsValues() throws IOException {
+        // given
+        File defaults = createFile("server:\n  port: 80\n  host: 'localhost'");
+        File overrides = createFile("server:\n  port: 8080");
+        YamlFileResource topLayer = new YamlFileResource(overrides);
+        LayeredPropertyResource resource = new LayeredPropertyResource(
+            Arrays.asList(new YamlFileResource(defaults), topLayer));
+        Property<String> host = newProperty("server.host", "");
+        Property<Integer> port = newProperty("server.port", 0);
+        Property<String> name = newProperty("name", "default name");
+
+        // when
+        resource.setValue("server.port", 9000);
+        resource.exportProperties(new ConfigurationData(Arrays.asList(host, port, name)));
+
+        // then
+        assertThat(resource.getInt("server.port"), equalTo(9000));
+        YamlFileResource exported = new YamlFileResource(overrides);
+        assertThat(exported.getInt("server.port"), equalTo(9000));
+        assertThat(exported.contains("server.host"), equalTo(false));
+        assertThat(exported.contains("name"), equalTo(false));
+        assertThat(resource.getString("server.host"), equalTo("localhost"));
+        Map<?, ?> defaultValues = new YamlFileResource(defaults).getMap("server");
+        assertThat(defaultValues.get("port"), equalTo(80));
+    }
+
+    @Test
+    public void shouldReturnUnmodifiableMergedView() throws IOException {
+        // given
+        File defaults = createFile("server:\n  port: 80\n  host: 'localhost'");
+        File overrides = createFile("server:\n  port: 8080");
+        LayeredPropertyResource resource = new LayeredPropertyResource(
+            Arrays.asList(new YamlFileResource(defaults), new YamlFileResource(overrides)));
+        Map<String, Object> root = (Map<String, Object>) resource.getObject("");
+        Map<String, Object> server = (Map<String, Object>) resource.getMap("server");
+
+        // when / then
+        verifyException(() -> root.put("name", "test"), UnsupportedOperationException.class);
+        verifyException(() -> server.put("port", 443), UnsupportedOperationException.class);
+        assertThat(resource.getInt("server.port"), equalTo(8080));
+        assertThat(resource.contains("name"), equalTo(false));
+    }
+
+    @Test
+    public void shouldRequireAtLeastOneLayer() {
+        // given / when / then
+        verifyException(
+            () -> new LayeredPropertyResource(Collections.emptyList()),
+            ConfigMeException.class, "At least one layer");
+    }
+
+    private File createFile(String content) throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
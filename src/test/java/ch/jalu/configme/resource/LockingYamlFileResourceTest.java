@@ -0,0 +1,153 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static ch.jalu.configme.TestUtils.verifyException;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link LockingYamlFileResource}.
+ */
+public class LockingYamlFileResourceTest {
+
+    private static final Property<String> NAME = newProperty("server.name", "default");
+    private static final Property<Integer> PORT = newProperty("server.port", 80);
+    private static final ConfigurationData CONFIGURATION_DATA = new ConfigurationData(Arrays.asList(NAME, PORT));
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldSaveFileLikeYamlFileResource() throws IOException {
+        // given
+        File file = createFile("server:\n    name: 'test'\n    port: 8080\n");
+        File expectedFile = createFile("", "expected.yml");
+        LockingYamlFileResource resource = new LockingYamlFileResource(file);
+        resource.setValue("server.port", 9090);
+        YamlFileResource expectedResource = new YamlFileResource(expectedFile);
+        expectedResource.setValue("server.name", "test");
+        expectedResource.setValue("server.port", 9090);
+
+        // when
+        resource.exportProperties(CONFIGURATION_DATA);
+        resource.exportProperties(CONFIGURATION_DATA);
+
+        // then
+        expectedResource.exportProperties(CONFIGURATION_DATA);
+        assertThat(readFile(file), equalTo(readFile(expectedFile)));
+        assertThat(resource.isModifiedExternally(), equalTo(false));
+        assertThat(Arrays.asList(temporaryFolder.getRoot().list()),
+            containsInAnyOrder(file.getName(), file.getName() + ".lock", expectedFile.getName()));
+    }
+
+    @Test
+    public void shouldNotSaveFileModifiedByOtherResource() throws IOException {
+        // given
+        File file = createFile("server:\n    name: 'test'\n    port: 8080\n");
+        LockingYamlFileResource resource = new LockingYamlFileResource(file);
+        LockingYamlFileResource otherResource = new LockingYamlFileResource(file);
+        otherResource.setValue("server.name", "other process");
+        otherResource.exportProperties(CONFIGURATION_DATA);
+        String otherContent = readFile(file);
+
+        // when / then
+        assertThat(resource.isModifiedExternally(), equalTo(true));
+        verifyException(() -> resource.exportProperties(CONFIGURATION_DATA),
+            ConfigMeException.class, "was modified by someone else");
+        assertThat(readFile(file), equalTo(otherContent));
+
+        // when
+        resource.reload();
+        resource.setValue("server.port", 443);
+        resource.exportProperties(CONFIGURATION_DATA);
+
+        // then
+        assertThat(new YamlFileReader(file).getObject("server.name"), equalTo("other process"));
+        assertThat(new YamlFileReader(file).getObject("server.port"), equalTo(443));
+    }
+
+    @Test
+    public void shouldDetectFileWrittenDirectly() throws IOException {
+        // given
+        File file = createFile("server:\n    name: 'test'\n    port: 8080\n");
+        LockingYamlFileResource resource = new LockingYamlFileResource(file);
+
+        // when
+        Files.write(file.toPath(), "server:\n    name: 'edited by hand'\n".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(resource.isModifiedExternally(), equalTo(true));
+        verifyException(() -> resource.exportProperties(CONFIGURATION_DATA),
+            ConfigMeException.class, "was modified by someone else");
+    }
+
+    @Test
+    public void shouldOnlyReadCompleteFilesWhileOtherResourceSaves() throws Exception {
+        // given
+        File file = createFile("server:\n    name: 'test'\n    port: 8080\n");
+        LockingYamlFileResource writer = new LockingYamlFileResource(file);
+        LockingYamlFileResource reader = new LockingYamlFileResource(file);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 100; ++i) {
+                    writer.setValue("server.port", 1000 + i);
+                    writer.exportProperties(CONFIGURATION_DATA);
+                }
+            }));
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 100; ++i) {
+                    reader.reload();
+                    if (!"test".equals(reader.getString("server.name")) || reader.getInt("server.port") == null) {
+                        throw new IllegalStateException("Read incomplete file");
+                    }
+                }
+            }));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        reader.reload();
+        assertThat(reader.getInt("server.port"), equalTo(1099));
+    }
+
+    private File createFile(String content) throws IOException {
+        return createFile(content, "config.yml");
+    }
+
+    private File createFile(String content, String name) throws IOException {
+        File file = temporaryFolder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String readFile(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
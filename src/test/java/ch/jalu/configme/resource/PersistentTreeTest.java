@@ -0,0 +1,99 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static ch.jalu.configme.TestUtils.verifyException;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link PersistentTree}.
+ */
+public class PersistentTreeTest {
+
+    @Test
+    public void shouldShareUnmodifiedSections() {
+        // given
+        Map<String, Object> server = new LinkedHashMap<>();
+        server.put("port", 8080);
+        server.put("host", "localhost");
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("server", server);
+        values.put("motd", "Welcome");
+        values.put("limits", new HashMap<>(server));
+        PersistentTree tree = PersistentTree.of(values);
+
+        // when
+        PersistentTree newTree = tree.with("server.port", 25565);
+
+        // then
+        assertThat(tree.getObject("server.port"), equalTo(8080));
+        assertThat(newTree.getObject("server.port"), equalTo(25565));
+        assertThat(newTree.getObject("limits"), sameInstance(tree.getObject("limits")));
+        assertThat(((Map<?, ?>) newTree.getObject("")).keySet(), contains("server", "motd", "limits"));
+        assertThat(((Map<?, ?>) newTree.getObject("server")).keySet(), contains("port", "host"));
+    }
+
+    @Test
+    public void shouldSetValuesLikeYamlFileReader() {
+        // given
+        PersistentTree tree = PersistentTree.EMPTY.with("a.b", "text");
+
+        // when
+        PersistentTree tree1 = tree.with("a.b.c.d", 3);
+        PersistentTree tree2 = tree.with("a.b.c", null);
+        PersistentTree tree3 = tree.with("a.b", null);
+        PersistentTree tree4 = tree.with("x.y", null);
+
+        // then
+        assertThat(tree1.getObject("a.b.c.d"), equalTo(3));
+        assertThat(tree2.getObject("a.b"), equalTo(new HashMap<>()));
+        assertThat(tree3.getObject("a"), equalTo(new HashMap<>()));
+        assertThat(tree4.getObject("x"), equalTo(new HashMap<>()));
+        assertThat(tree.getObject("a.b"), equalTo("text"));
+    }
+
+    @Test
+    public void shouldCopyMutableValues() {
+        // given
+        Map<String, Object> map = new HashMap<>();
+        map.put("key", "value");
+        List<Object> list = Arrays.asList("a", map);
+
+        // when
+        PersistentTree tree = PersistentTree.EMPTY.with("section.map", map).with("section.list", list);
+        map.put("key", "changed");
+
+        // then
+        assertThat(tree.getObject("section.map.key"), equalTo("value"));
+        assertThat(tree.getObject("section.list"), instanceOf(CompactList.class));
+        assertThat(((List<?>) tree.getObject("section.list")).get(1), instanceOf(CompactMap.class));
+        verifyException(() -> ((Map<String, Object>) tree.getObject("section.map")).put("k", "v"),
+            UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldHandleObjectAtRoot() {
+        // given
+        Object bean = new Object();
+
+        // when
+        PersistentTree tree = PersistentTree.EMPTY.with("", bean);
+
+        // then
+        assertThat(tree.getObject(""), sameInstance(bean));
+        assertThat(tree.getObject("some.path"), nullValue());
+        verifyException(() -> tree.with("some.path", 3), ConfigMeException.class, "root path is a bean property");
+    }
+}
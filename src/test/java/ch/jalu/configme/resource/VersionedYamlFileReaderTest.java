@@ -0,0 +1,130 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.beanmapper.leafproperties.LeafPropertiesGenerator;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.samples.TestConfiguration;
+import ch.jalu.configme.utils.StringInterner;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.yaml.snakeyaml.Yaml;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static ch.jalu.configme.TestUtils.getJarFile;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link VersionedYamlFileReader}.
+ */
+public class VersionedYamlFileReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadSameValuesAsDefaultReader() {
+        // given
+        File file = getJarFile("/config-sample.yml");
+
+        // when
+        VersionedYamlFileReader reader = new VersionedYamlFileReader(file);
+
+        // then
+        assertThat(reader.getObject(""), equalTo(new YamlFileReader(file).getObject("")));
+        assertThat(reader.getHistory(), empty());
+    }
+
+    @Test
+    public void shouldLoadFileWithYamlOfHook() {
+        // given
+        File file = getJarFile("/config-sample.yml");
+        StringInterner interner = new StringInterner(100, 64);
+        List<StringInterner> internersOfHook = new ArrayList<>();
+
+        // when
+        VersionedYamlFileReader reader = new VersionedYamlFileReader(file, 2, interner) {
+            @Override
+            protected Yaml createYaml(@Nullable StringInterner stringInterner) {
+                internersOfHook.add(stringInterner);
+                return super.createYaml(stringInterner);
+            }
+        };
+
+        // then
+        assertThat(internersOfHook, contains(interner));
+        assertThat(reader.getObject("test.systemName"), sameInstance(interner.intern("Custom sys name")));
+    }
+
+    @Test
+    public void shouldKeepSnapshotsAndRollBack() {
+        // given
+        VersionedYamlFileReader reader = new VersionedYamlFileReader(getJarFile("/config-sample.yml"), 2, null);
+        PersistentTree initial = reader.getSnapshot();
+
+        // when
+        reader.set("test.duration", 1);
+        PersistentTree afterFirstChange = reader.getSnapshot();
+        reader.set("test.duration", 2);
+        reader.set("test.duration", 3);
+        boolean rolledBack = reader.rollback();
+
+        // then
+        assertThat(rolledBack, equalTo(true));
+        assertThat(reader.getObject("test.duration"), equalTo(2));
+        assertThat(initial.getObject("test.duration"), equalTo(22));
+        assertThat(afterFirstChange.getObject("test.duration"), equalTo(1));
+        assertThat(afterFirstChange.getObject("features"), sameInstance(initial.getObject("features")));
+        assertThat(reader.getHistory(), contains(sameInstance(afterFirstChange)));
+    }
+
+    @Test
+    public void shouldLimitHistoryAndRestoreSnapshot() {
+        // given
+        VersionedYamlFileReader reader = new VersionedYamlFileReader(getJarFile("/config-sample.yml"), 3, null);
+        PersistentTree initial = reader.getSnapshot();
+        for (int i = 0; i < 5; ++i) {
+            reader.set("test.duration", i);
+        }
+
+        // when
+        reader.restore(initial);
+
+        // then
+        assertThat(reader.getObject("test.duration"), equalTo(22));
+        assertThat(reader.getHistory(), hasSize(3));
+        assertThat(reader.getHistory().get(0).getObject("test.duration"), equalTo(4));
+    }
+
+    @Test
+    public void shouldSetValuesAndExport() {
+        // given
+        File file = copyFileFromResources("/config-sample.yml", temporaryFolder);
+        YamlFileResource resource = new YamlFileResource(file, new VersionedYamlFileReader(file),
+            new LeafPropertiesGenerator());
+        ConfigurationData configurationData = ConfigurationDataBuilder.collectData(TestConfiguration.class);
+
+        // when
+        resource.setValue("features.cool.options", Arrays.asList("Fireworks"));
+        resource.setValue("test.duration", 30);
+        resource.exportProperties(configurationData);
+
+        // then
+        YamlFileResource exported = new YamlFileResource(file);
+        assertThat(exported.getList("features.cool.options"), contains("Fireworks"));
+        assertThat(exported.getInt("test.duration"), equalTo(30));
+        assertThat(exported.getString("test.systemName"), equalTo("Custom sys name"));
+    }
+}
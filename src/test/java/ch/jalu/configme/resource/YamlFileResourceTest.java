@@ -11,8 +11,18 @@ import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.migration.PlainMigrationService;
 import ch.jalu.configme.properties.BeanProperty;
+import ch.jalu.configme.properties.DataSize;
+import ch.jalu.configme.properties.DataSizeProperty;
+import ch.jalu.configme.properties.DoubleList;
+import ch.jalu.configme.properties.DoubleListProperty;
+import ch.jalu.configme.properties.DurationProperty;
+import ch.jalu.configme.properties.IntListProperty;
+import ch.jalu.configme.properties.LongList;
+import ch.jalu.configme.properties.LongListProperty;
 import ch.jalu.configme.properties.OptionalProperty;
+import ch.jalu.configme.properties.PatternProperty;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.PropertyValues;
 import ch.jalu.configme.samples.TestConfiguration;
 import ch.jalu.configme.samples.TestEnum;
 import org.junit.Rule;
@@ -23,6 +33,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,6 +48,7 @@ import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
@@ -343,6 +355,71 @@ public class YamlFileResourceTest {
         ));
     }
 
+    @Test
+    public void shouldExportPrimitiveListProperties() throws IOException {
+        // given
+        ConfigurationData configurationData = new ConfigurationData(Arrays.asList(
+            new IntListProperty("ports", 8080, 8443),
+            new LongListProperty("limits.sizes", 1L, 5_000_000_000L),
+            new DoubleListProperty("limits.weights", 0.5, -2.0),
+            new IntListProperty("limits.empty")));
+        File file = copyFileFromResources("/empty_file.yml");
+        PropertyResource resource = new YamlFileResource(file);
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        List<String> exportedLines = Files.readAllLines(file.toPath());
+        assertThat(exportedLines, contains(
+            "",
+            "ports: ",
+            "- 8080",
+            "- 8443",
+            "limits:",
+            "    sizes: ",
+            "    - 1",
+            "    - 5000000000",
+            "    weights: ",
+            "    - 0.5",
+            "    - -2.0",
+            "    empty: []"
+        ));
+        PropertyResource reloadedResource = new YamlFileResource(file);
+        assertThat(configurationData.getProperties().get(1).getValue(reloadedResource),
+            equalTo(LongList.of(1L, 5_000_000_000L)));
+        assertThat(configurationData.getProperties().get(2).getValue(reloadedResource),
+            equalTo(DoubleList.of(0.5, -2.0)));
+    }
+
+    @Test
+    public void shouldExportParsedValueProperties() throws IOException {
+        // given
+        ConfigurationData configurationData = new ConfigurationData(Arrays.asList(
+            new PatternProperty("filter.name", "[a-z]+'s"),
+            new DurationProperty("filter.timeout", Duration.ofSeconds(90)),
+            new DataSizeProperty("filter.maxSize", DataSize.ofMegabytes(512))));
+        File file = copyFileFromResources("/empty_file.yml");
+        PropertyResource resource = new YamlFileResource(file);
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        List<String> exportedLines = Files.readAllLines(file.toPath());
+        assertThat(exportedLines, contains(
+            "",
+            "filter:",
+            "    name: '[a-z]+''s'",
+            "    timeout: '1m30s'",
+            "    maxSize: '512MB'"
+        ));
+        PropertyResource reloadedResource = new YamlFileResource(file);
+        PropertyValues values = PropertyValues.resolve(reloadedResource, configurationData.getProperties());
+        assertThat(values.getMissingProperties(), empty());
+        assertThat(values.getInvalidProperties(), empty());
+    }
+
     @Test
     public void shouldSetValueAfterLoadingEmptyFile() {
         // given
@@ -0,0 +1,105 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.utils.StringInterner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Measures the heap used by many loaded YAML files of the same structure, with and without
+ * deduplication of strings by {@link StringInterner}, and with the default and the compact
+ * ({@link CompactYamlFileReader}) tree. Also measures the time to look up values in each tree.
+ * Not a unit test; run the main method manually.
+ */
+public final class YamlFootprintBenchmark {
+
+    private static final int FILE_COUNT = 2_000;
+
+    private YamlFootprintBenchmark() {
+    }
+
+    public static void main(String... args) throws IOException {
+        List<File> files = createCorpus(Files.createTempDirectory("configme-footprint"));
+
+        System.out.println("Loaded " + files.size() + " files");
+        measure("Default tree", files, YamlFileReader::new, null);
+        measure("Default tree, deduplicated", files, YamlFileReader::new, new StringInterner(50_000, 64));
+        measure("Compact tree", files, CompactYamlFileReader::new, null);
+        measure("Compact tree, deduplicated", files, CompactYamlFileReader::new, new StringInterner(50_000, 64));
+    }
+
+    private static void measure(String name, List<File> files,
+                                BiFunction<File, StringInterner, YamlFileReader> readerFactory,
+                                StringInterner interner) {
+        long before = usedMemory();
+        List<YamlFileReader> readers = new ArrayList<>(files.size());
+        for (File file : files) {
+            readers.add(readerFactory.apply(file, interner));
+        }
+        long bytes = usedMemory() - before;
+        double lookupNanos = measureLookups(readers);
+        System.out.printf("%-28s %8d KiB, %6.1f ns per lookup%n", name + ":", bytes / 1024, lookupNanos);
+    }
+
+    private static double measureLookups(List<YamlFileReader> readers) {
+        String[] paths = { "tenant.name", "worlds.world3.gameMode", "worlds.world9.permissions", "worlds.world0" };
+        int rounds = 50;
+        int found = 0;
+        long start = 0;
+        for (int round = -rounds; round < rounds; ++round) {
+            if (round == 0) { // the first rounds are for warm-up
+                start = System.nanoTime();
+            }
+            for (YamlFileReader reader : readers) {
+                for (String path : paths) {
+                    if (reader.getObject(path) != null) {
+                        ++found;
+                    }
+                }
+            }
+        }
+        long lookups = (long) rounds * readers.size() * paths.length;
+        if (found != 2 * lookups) {
+            throw new IllegalStateException("Unexpected number of found values: " + found);
+        }
+        return (double) (System.nanoTime() - start) / lookups;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Creates files with the same keys and many repeated values, differing only in a few values.
+     */
+    private static List<File> createCorpus(Path folder) throws IOException {
+        List<File> files = new ArrayList<>(FILE_COUNT);
+        String[] modes = { "SURVIVAL", "CREATIVE", "ADVENTURE" };
+        for (int i = 0; i < FILE_COUNT; ++i) {
+            StringBuilder content = new StringBuilder();
+            content.append("tenant:\n  name: 'tenant").append(i).append("'\n  enabled: 'true'\n");
+            content.append("worlds:\n");
+            for (int w = 0; w < 10; ++w) {
+                content.append("  world").append(w).append(":\n")
+                    .append("    gameMode: ").append(modes[(i + w) % modes.length]).append('\n')
+                    .append("    difficulty: 'normal'\n")
+                    .append("    permissions:\n      - 'world.enter'\n      - 'world.build'\n");
+            }
+            File file = folder.resolve("tenant" + i + ".yml").toFile();
+            Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+            file.deleteOnExit();
+            files.add(file);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,84 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newDoubleListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+
+/**
+ * Compares the time to load large files written by {@link YamlFileResource} with SnakeYAML
+ * ({@link YamlFileReader}) and with the specialized parser ({@link FastYamlFileReader}), with and without schema.
+ * Not a unit test; run the main method manually.
+ */
+public final class YamlParsingBenchmark {
+
+    private static final int[] SECTION_COUNTS = { 100, 1_000, 10_000 };
+    private static final int ROUNDS = 20;
+
+    private YamlParsingBenchmark() {
+    }
+
+    public static void main(String... args) throws IOException {
+        for (int sectionCount : SECTION_COUNTS) {
+            ConfigurationData configurationData = createConfigurationData(sectionCount);
+            File file = createFile(configurationData);
+            System.out.printf("%d sections (%d KiB)%n", sectionCount, file.length() / 1024);
+            measure("SnakeYAML", file, YamlFileReader::new);
+            measure("Specialized parser", file, FastYamlFileReader::new);
+            measure("With schema", file, f -> new FastYamlFileReader(f, null, configurationData));
+        }
+    }
+
+    private static void measure(String name, File file, Function<File, YamlFileReader> readerFactory) {
+        long start = 0;
+        Object root = null;
+        for (int round = -ROUNDS; round < ROUNDS; ++round) {
+            if (round == 0) { // the first rounds are for warm-up
+                start = System.nanoTime();
+            }
+            root = readerFactory.apply(file).getObject("");
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+        System.out.printf("  %-20s %8.2f ms per load (%d top-level keys)%n", name + ":", millis,
+            ((Map<?, ?>) root).size());
+    }
+
+    /**
+     * Creates configuration data with the given number of sections.
+     */
+    private static ConfigurationData createConfigurationData(int sectionCount) {
+        List<Property<?>> properties = new ArrayList<>();
+        for (int i = 0; i < sectionCount; ++i) {
+            String section = "section" + i + ".";
+            properties.add(newProperty(section + "name", "Section number " + i));
+            properties.add(newProperty(section + "enabled", i % 2 == 0));
+            properties.add(newProperty(section + "limits.max", i * 10));
+            properties.add(newDoubleListProperty(section + "limits.ratios", i / 7.0, i / 3.0));
+            properties.add(newListProperty(section + "members", "alice", "bob", "member-" + i));
+        }
+        return new ConfigurationData(properties);
+    }
+
+    /**
+     * Creates a file with the properties of the given configuration data, exported by {@link YamlFileResource}.
+     */
+    private static File createFile(ConfigurationData configurationData) throws IOException {
+        File file = Files.createTempFile("configme-parsing", ".yml").toFile();
+        file.deleteOnExit();
+        new YamlFileResource(file).exportProperties(configurationData);
+        if (new FastYamlFileReader(file).getFallbackLoadCount() != 0) {
+            throw new IllegalStateException("Generated file is not supported by the specialized parser");
+        }
+        return file;
+    }
+}
@@ -0,0 +1,213 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.samples.TestEnum;
+import ch.jalu.configme.utils.StringInterner;
+import org.junit.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static ch.jalu.configme.utils.Utils.readAllBytes;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link YamlSubsetParser}.
+ */
+public class YamlSubsetParserTest {
+
+    @Test
+    public void shouldParseExportedFilesLikeSnakeYaml() throws IOException {
+        for (String file : new String[]{ "/config-export-expected.yml", "/config-sample.yml",
+            "/config-incomplete-sample.yml" }) {
+            // given
+            String text = readResource(file);
+
+            // when
+            Map<String, Object> result = YamlSubsetParser.parse(text, null);
+
+            // then
+            assertThat(file, result, equalTo(new Yaml().load(text)));
+        }
+    }
+
+    @Test
+    public void shouldParseScalarsLikeSnakeYaml() {
+        // given
+        String text = "# comment\n"
+            + "int: 42\n"
+            + "negative: -7   # trailing comment\n"
+            + "long: 9876543210\n"
+            + "big: 98765432109876543210\n"
+            + "double: 3.25\n"
+            + "bool: true\n"
+            + "nothing: null\n"
+            + "tilde: ~\n"
+            + "empty:\n"
+            + "quoted: 'it''s here # not a comment'\n"
+            + "doubleQuoted: \"text\"\n"
+            + "plain: hello world.txt\n"
+            + "'quoted key': 'value'\n"
+            + "emptyList: []\n"
+            + "emptyMap: {}\n"
+            + "section:\n"
+            + "  list:\n"
+            + "  - 'a'\n"
+            + "  - 3\n"
+            + "  nested:\n"
+            + "      deep: FIRST\r\n"
+            + "last: 'end'";
+
+        // when
+        Map<String, Object> result = YamlSubsetParser.parse(text, null);
+
+        // then
+        assertThat(result, equalTo(new Yaml().load(text)));
+        assertThat(result.get("long"), instanceOf(Long.class));
+        assertThat(result.get("big"), equalTo(new BigInteger("98765432109876543210")));
+    }
+
+    @Test
+    public void shouldParseEmptyDocument() {
+        // given / when
+        Map<String, Object> result = YamlSubsetParser.parse("# only a comment\n\n", null);
+
+        // then
+        assertThat(result.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void shouldRejectUnsupportedSyntax() {
+        String[] documents = {
+            "key: yes",
+            "key: 0x1F",
+            "key: 012",
+            "key: 2001-12-14",
+            "key: 1e5",
+            "key: &anchor value\nother: *anchor",
+            "key: !!str 5",
+            "key: [a, b]",
+            "key: {a: b}",
+            "key: |\n  text",
+            "key: 'multi\n  line'",
+            "key: plain\n  continued",
+            "key: \"escaped\\n\"",
+            "123: numeric key",
+            "on: reserved key",
+            "list:\n- key: value",
+            "list:\n-\n  - nested",
+            "- root list",
+            "---\nkey: value",
+            "key:\tvalue",
+            "key:value",
+            "a:\n    b: 1\n  c: 2",
+            "\tkey: value",
+            "key: 'value'# comment"
+        };
+        for (String document : documents) {
+            // given / when
+            Map<String, Object> result = YamlSubsetParser.parse(document, null);
+
+            // then
+            assertThat(document, result, nullValue());
+        }
+    }
+
+    @Test
+    public void shouldInternStrings() {
+        // given
+        StringInterner interner = new StringInterner(100, 64);
+        String text = "first:\n  name: 'test'\nsecond:\n  name: 'test'\n";
+
+        // when
+        Map<String, Object> result = YamlSubsetParser.parse(text, interner);
+
+        // then
+        Map<?, ?> first = (Map<?, ?>) result.get("first");
+        Map<?, ?> second = (Map<?, ?>) result.get("second");
+        assertThat(first.get("name"), sameInstance(second.get("name")));
+        assertThat(first.keySet().iterator().next(), sameInstance(second.keySet().iterator().next()));
+    }
+
+    @Test
+    public void shouldConstructScalarsAsExpectedTypeOfSchema() {
+        // given
+        ScalarSchema schema = new ScalarSchema(new ConfigurationData(Arrays.asList(
+            newProperty("server.port", 80),
+            newProperty("server.name", "default"),
+            newProperty("server.enabled", false),
+            newProperty(TestEnum.class, "server.mode", TestEnum.FIRST),
+            newListProperty("server.users"),
+            newProperty("server.timeout", 30))));
+        String text = "server:\n"
+            + "    port: 25565 # comment\n"
+            + "    name: 1234\n"
+            + "    enabled: true\n"
+            + "    mode: third\n"
+            + "    users:\n"
+            + "    - 12\n"
+            + "    - 'bob'\n"
+            + "    timeout: 'thirty'\n"
+            + "    other: 1234\n";
+
+        // when
+        Map<String, Object> result = YamlSubsetParser.parse(text, null, schema);
+
+        // then
+        Map<?, ?> server = (Map<?, ?>) result.get("server");
+        assertThat(server.get("port"), equalTo(25565));
+        assertThat(server.get("name"), equalTo("1234"));
+        assertThat(server.get("enabled"), equalTo(true));
+        assertThat(server.get("mode"), equalTo(TestEnum.THIRD));
+        assertThat(server.get("users"), equalTo(Arrays.asList("12", "bob")));
+        assertThat(server.get("timeout"), equalTo("thirty"));
+        assertThat(server.get("other"), equalTo(1234));
+    }
+
+    @Test
+    public void shouldConstructScalarsWithoutSchemaIfNotConvertible() {
+        // given
+        ScalarSchema schema = new ScalarSchema(new ConfigurationData(Arrays.asList(
+            newProperty("port", 80),
+            newProperty("enabled", false),
+            newProperty(TestEnum.class, "mode", TestEnum.FIRST),
+            newProperty("name", "default"))));
+        String text = "port: 99999999999\nenabled: 3\nmode: 4\nname: null\n";
+
+        // when
+        Map<String, Object> result = YamlSubsetParser.parse(text, null, schema);
+
+        // then
+        assertThat(result, equalTo(new Yaml().load(text)));
+    }
+
+    @Test
+    public void shouldRejectUnsupportedSyntaxWithSchema() {
+        // given
+        ScalarSchema schema = new ScalarSchema(new ConfigurationData(Arrays.asList(
+            newProperty("name", "default"))));
+
+        // when / then
+        assertThat(YamlSubsetParser.parse("name: *alias", null, schema), nullValue());
+        assertThat(YamlSubsetParser.parse("name: [a, b]", null, schema), nullValue());
+        assertThat(YamlSubsetParser.parse("name: a: b", null, schema), nullValue());
+        assertThat(YamlSubsetParser.parse("name: 'unclosed", null, schema), nullValue());
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream is = YamlSubsetParserTest.class.getResourceAsStream(name)) {
+            return new String(readAllBytes(is), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package ch.jalu.configme.samples;
 
 import ch.jalu.configme.Comment;
+import ch.jalu.configme.GenerateConfigurationData;
 import ch.jalu.configme.SectionComments;
 import ch.jalu.configme.SettingsHolder;
 import ch.jalu.configme.properties.IntegerProperty;
@@ -17,6 +18,7 @@ import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
 /**
  * Sample properties for testing purposes.
  */
+@GenerateConfigurationData
 public final class TestConfiguration implements SettingsHolder {
 
     @Comment("Duration in seconds")
@@ -0,0 +1,30 @@
+package ch.jalu.configme.utils;
+
+import ch.jalu.configme.TestUtils;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link PathUtils}.
+ */
+public class PathUtilsTest {
+
+    @Test
+    public void shouldSplitPathLikeRegexSplit() {
+        // given
+        String[] paths = { "", "test", "DataSource.mysql.port", "a..b", "trailing.", "trailing..", ".leading",
+            "." };
+
+        // when / then
+        for (String path : paths) {
+            assertThat("Path '" + path + "'", PathUtils.splitPath(path), equalTo(path.split("\\.")));
+        }
+    }
+
+    @Test
+    public void shouldHaveHiddenConstructor() {
+        TestUtils.validateHasOnlyPrivateEmptyConstructor(PathUtils.class);
+    }
+}
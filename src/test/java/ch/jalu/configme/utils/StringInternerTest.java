@@ -0,0 +1,51 @@
+package ch.jalu.configme.utils;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link StringInterner}.
+ */
+public class StringInternerTest {
+
+    @Test
+    public void shouldReturnSameInstanceForEqualStrings() {
+        // given
+        StringInterner interner = new StringInterner(10, 5);
+        String str1 = new String("test");
+        String str2 = new String("test");
+
+        // when
+        String result1 = interner.intern(str1);
+        String result2 = interner.intern(str2);
+
+        // then
+        assertThat(result1, sameInstance(str1));
+        assertThat(result2, sameInstance(str1));
+        assertThat(interner.intern(null), nullValue());
+    }
+
+    @Test
+    public void shouldRespectBounds() {
+        // given
+        StringInterner interner = new StringInterner(2, 5);
+        String longString = new String("longer");
+        interner.intern("a");
+        interner.intern("b");
+
+        // when
+        String result1 = interner.intern(new String("c"));
+        String result2 = interner.intern(new String("c"));
+        String result3 = interner.intern(new String("longer"));
+
+        // then
+        assertThat(result1, not(sameInstance(result2)));
+        assertThat(result3, not(sameInstance(longString)));
+        assertThat(interner.size(), equalTo(2));
+    }
+}
@@ -7,11 +7,15 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import static ch.jalu.configme.TestUtils.verifyException;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
@@ -104,4 +108,22 @@ public class UtilsTest {
             ConfigMeException.class,
             "Failed to create file");
     }
+
+    @Test
+    public void shouldReadAllBytesAndDecodePlainUtf8() throws IOException {
+        // given
+        byte[] bytes = new byte[20_000];
+        Arrays.fill(bytes, (byte) 'a');
+        byte[] umlaut = "\u00e4".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] readBytes = Utils.readAllBytes(new ByteArrayInputStream(bytes));
+
+        // then
+        assertThat(readBytes, equalTo(bytes));
+        assertThat(Utils.decodeUtf8(umlaut), equalTo("\u00e4"));
+        assertThat(Utils.decodeUtf8(new byte[]{ (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'a' }), nullValue());
+        assertThat(Utils.decodeUtf8(new byte[]{ (byte) 0xFF, (byte) 0xFE, 'a', 0 }), nullValue());
+        assertThat(Utils.decodeUtf8(new byte[]{ 'a', (byte) 0xC3 }), nullValue());
+    }
 }